@@ -0,0 +1,50 @@
+package com.qatraining.abilities;
+
+import com.qatraining.hooks.AuthenticationManager;
+import net.serenitybdd.screenplay.Ability;
+import net.serenitybdd.screenplay.Actor;
+
+/**
+ * Lets an actor call the API with a bearer token for a configured role.
+ * The token comes from AuthenticationManager's shared cache, so it is only obtained once
+ * per role and is refreshed automatically before it expires.
+ */
+public class AuthenticateWithToken implements Ability {
+
+    private final String role;
+
+    private AuthenticateWithToken(String role) {
+        this.role = role;
+    }
+
+    public static AuthenticateWithToken asRole(String role) {
+        return new AuthenticateWithToken(role);
+    }
+
+    public static AuthenticateWithToken as(Actor actor) {
+        return actor.abilityTo(AuthenticateWithToken.class);
+    }
+
+    /**
+     * @return a currently valid token for this role
+     */
+    public String token() {
+        String token = AuthenticationManager.getToken(role);
+        if (token == null || token.isEmpty()) {
+            throw new IllegalStateException("Could not obtain an API token for role: " + role);
+        }
+        return token;
+    }
+
+    /**
+     * @return the value for the Authorization header
+     */
+    public String bearerHeader() {
+        return "Bearer " + token();
+    }
+
+    @Override
+    public String toString() {
+        return "authenticate as " + role;
+    }
+}
@@ -0,0 +1,85 @@
+package com.qatraining.api;
+
+import com.qatraining.hooks.AuthenticationManager;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared request specifications, one per role and base URL, built once per run.
+ * Each carries the base URI, JSON content type and an auth filter that attaches the
+ * role's current bearer token, so API steps only add a path and body:
+ *
+ * <pre>
+ * SerenityRest.given().spec(ApiRequestSpecs.forRole(baseUrl, "admin")).get("/api/plants");
+ * </pre>
+ *
+ * Global tuning (client configuration, filters) belongs in {@link #build(String, String)}.
+ * Specs must not be modified by callers; {@code given().spec(...)} merges a copy.
+ */
+public final class ApiRequestSpecs {
+
+    private static final Map<String, RequestSpecification> SPECS = new ConcurrentHashMap<>();
+
+    private ApiRequestSpecs() {
+    }
+
+    public static RequestSpecification forRole(String baseUrl, String role) {
+        return SPECS.computeIfAbsent(role + "@" + baseUrl, key -> build(baseUrl, role));
+    }
+
+    /**
+     * A spec carrying a token the caller already holds, for requests fanned out to worker threads.
+     * Those threads must not resolve the token themselves: that would lease a pooled account
+     * into a thread-local nobody releases.
+     */
+    public static RequestSpecification withToken(String baseUrl, String token) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setConfig(HttpClientPool.restAssuredConfig())
+                .addHeader("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    private static RequestSpecification build(String baseUrl, String role) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setConfig(HttpClientPool.restAssuredConfig())
+                .addFilter(new BearerTokenFilter(role))
+                .build();
+    }
+
+    /**
+     * Attaches the role's token at send time, so a cached spec never carries a stale token.
+     * AuthenticationManager serves the token from cache, so this is cheap per request.
+     */
+    private static final class BearerTokenFilter implements Filter {
+
+        private final String role;
+
+        private BearerTokenFilter(String role) {
+            this.role = role;
+        }
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            String token = AuthenticationManager.getToken(role);
+            if (token != null && !token.isEmpty()) {
+                requestSpec.replaceHeader("Authorization", "Bearer " + token);
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.qatraining.api;
+
+import com.qatraining.utils.TestConfig;
+
+import java.util.Map;
+
+/**
+ * How API step definitions send requests. Authentication, base URI and JSON encoding
+ * are the transport's job; steps only pass the role, method, path and payload.
+ *
+ * Selected with api.transport:
+ * <ul>
+ *   <li>{@code rest} (default) - SerenityRest with the shared request specs; calls are
+ *       recorded in the Serenity report per {@link ReportRecording}</li>
+ *   <li>{@code jdk} - java.net.http.HttpClient (keep-alive, HTTP/2 where the server offers it,
+ *       async send); the report gets a compact per-scenario summary instead</li>
+ * </ul>
+ * A runner can override it for its own scenarios: RunApiFastTests passes "jdk" to the
+ * fastmode TransportPlugin, which selects it per scenario thread, so other runners and
+ * scenarios in the same JVM keep the configured transport.
+ */
+public interface ApiTransport {
+
+    String TRANSPORT_PROPERTY = "api.transport";
+
+    /**
+     * Send one request as {@code role} and wait for the response.
+     *
+     * @param body payload serialized as JSON, or null for none
+     */
+    ResponseView send(String baseUrl, String role, String method, String path, Object body);
+
+    /**
+     * Whether individual exchanges should be added to the Serenity report.
+     */
+    default boolean reportsExchanges() {
+        return true;
+    }
+
+    /**
+     * Reset the current thread's per-scenario tally.
+     */
+    default void startScenario() {
+    }
+
+    /**
+     * Summary of requests sent by the current thread since {@link #startScenario()},
+     * or null if the transport does not keep one.
+     */
+    default String scenarioSummary() {
+        return null;
+    }
+
+    /**
+     * Run-wide figures for reporting; empty if the transport does not keep any.
+     */
+    default Map<String, Object> stats() {
+        return Map.of();
+    }
+
+    /**
+     * The transport for the scenario on this thread: the one its runner selected, else api.transport.
+     */
+    static ApiTransport current() {
+        ApiTransport selected = TransportSelection.SCENARIO.get();
+        return selected != null ? selected : named(TestConfig.get(TRANSPORT_PROPERTY, "rest"));
+    }
+
+    /**
+     * The transport called {@code name} ("jdk" or "rest"; anything else means rest).
+     */
+    static ApiTransport named(String name) {
+        return "jdk".equalsIgnoreCase(name == null ? null : name.trim())
+                ? JdkHttpTransport.INSTANCE
+                : RestAssuredTransport.INSTANCE;
+    }
+
+    /**
+     * Use the transport called {@code name} for the scenario on this thread, or go back to
+     * api.transport if {@code name} is null.
+     */
+    static void selectForCurrentScenario(String name) {
+        if (name == null) {
+            TransportSelection.SCENARIO.remove();
+        } else {
+            TransportSelection.SCENARIO.set(named(name));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.qatraining.api;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sub-category name to ID index, built once per suite from the sub-category endpoint. Only
+ * sub-categories are indexed, since plants are created under them; names are matched
+ * case-insensitively.
+ *
+ * Reads go to an immutable map published through a volatile field, so parallel scenarios
+ * resolve names without locking. Building and {@link #refresh} are serialized; call refresh
+ * after a scenario creates categories. A build that fails or finds nothing throws and is not
+ * kept, so the next lookup tries again instead of every lookup quietly finding nothing.
+ */
+public final class CategoryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryIndex.class);
+
+    private static final String SOURCE = "/api/subcategories";
+
+    private record Snapshot(String baseUrl, Map<String, String> idsByName) {
+    }
+
+    private static volatile Snapshot snapshot;
+
+    private CategoryIndex() {
+    }
+
+    /**
+     * @return the ID of the sub-category called {@code name}, or null if there is none
+     * @throws IllegalStateException if the index cannot be built
+     */
+    public static String resolve(String baseUrl, String role, String name) {
+        Snapshot current = snapshot;
+        if (current == null || !current.baseUrl().equals(baseUrl)) {
+            current = build(baseUrl, role, false);
+        }
+        return current.idsByName().get(key(name));
+    }
+
+    /**
+     * Rebuild the index from fresh responses, bypassing the reference data cache.
+     *
+     * @return the number of names indexed
+     */
+    public static int refresh(String baseUrl, String role) {
+        return build(baseUrl, role, true).idsByName().size();
+    }
+
+    private static synchronized Snapshot build(String baseUrl, String role, boolean force) {
+        Snapshot current = snapshot;
+        if (!force && current != null && current.baseUrl().equals(baseUrl)) {
+            return current;
+        }
+        if (force) {
+            ReferenceDataCache.invalidateAll();
+        }
+        ResponseView response = ReferenceDataCache.get(baseUrl, role, SOURCE);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Category index: GET " + SOURCE + " returned HTTP "
+                    + response.statusCode());
+        }
+        Map<String, String> idsByName = new HashMap<>();
+        addAll(response.json(), idsByName);
+        if (idsByName.isEmpty()) {
+            throw new IllegalStateException("Category index: GET " + SOURCE + " returned no sub-categories");
+        }
+        Snapshot built = new Snapshot(baseUrl, Map.copyOf(idsByName));
+        snapshot = built;
+        LOGGER.info("Category index built with {} names", idsByName.size());
+        return built;
+    }
+
+    private static void addAll(JsonElement json, Map<String, String> idsByName) {
+        JsonArray items = null;
+        if (json != null && json.isJsonArray()) {
+            items = json.getAsJsonArray();
+        } else if (json != null && json.isJsonObject() && json.getAsJsonObject().has("content")) {
+            items = json.getAsJsonObject().getAsJsonArray("content");
+        }
+        if (items == null) {
+            return;
+        }
+        for (JsonElement item : items) {
+            if (!item.isJsonObject()) {
+                continue;
+            }
+            JsonObject category = item.getAsJsonObject();
+            JsonElement id = category.get("id");
+            JsonElement name = category.get("name");
+            if (id != null && !id.isJsonNull() && name != null && !name.isJsonNull()) {
+                idsByName.put(key(name.getAsString()), id.getAsString());
+            }
+        }
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,133 @@
+package com.qatraining.api;
+
+import com.qatraining.hooks.AccountPool;
+import com.qatraining.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides when the resources a scenario created are deleted (cleanup.mode):
+ * "scenario" deletes them in the scenario's own after-hook; "deferred" queues them suite-wide
+ * and deletes them in one batch when the launcher session closes, and in the background after
+ * every cleanup.deferred.every scenarios if that is above 0. Scenarios tagged
+ * {@value #CLEAN_SLATE_TAG} are cleaned up immediately in either mode.
+ *
+ * Deferred resources live only in memory, so a JVM that dies mid-run leaves them behind.
+ */
+public final class CleanupScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CleanupScheduler.class);
+
+    public static final String CLEAN_SLATE_TAG = "@clean-slate";
+
+    private static final boolean DEFERRED =
+            "deferred".equals(TestConfig.get("cleanup.mode", "scenario").trim().toLowerCase(Locale.ROOT));
+    private static final int FLUSH_EVERY = TestConfig.getInt("cleanup.deferred.every", 0);
+
+    private static final ExecutorService FLUSHER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "deferred-cleanup");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Resources queued for the next batch; swapped out under the class lock when a batch starts. */
+    private static ResourceRegistry pending = new ResourceRegistry();
+    private static volatile String pendingBaseUrl;
+
+    private static final AtomicLong deferredScenarios = new AtomicLong();
+    private static final LongAdder batches = new LongAdder();
+    private static final LongAdder deleted = new LongAdder();
+    private static final LongAdder alreadyGone = new LongAdder();
+    private static final LongAdder failed = new LongAdder();
+    private static final LongAdder cleanupMillis = new LongAdder();
+
+    private CleanupScheduler() {
+    }
+
+    /**
+     * Clean up after the scenario that used {@code registry}, now or later depending on the mode.
+     *
+     * @return the summary if the resources were deleted now, or null if they were deferred
+     *         or there was nothing to delete
+     */
+    public static ResourceCleanup.Summary afterScenario(String baseUrl, ResourceRegistry registry, boolean cleanSlate) {
+        if (!DEFERRED || cleanSlate) {
+            return registry.isEmpty() ? null : count(ResourceCleanup.deleteAll(baseUrl, registry));
+        }
+        synchronized (CleanupScheduler.class) {
+            registry.transferTo(pending);
+            pendingBaseUrl = baseUrl;
+        }
+        if (FLUSH_EVERY > 0 && deferredScenarios.incrementAndGet() % FLUSH_EVERY == 0) {
+            FLUSHER.execute(CleanupScheduler::flushPending);
+        }
+        return null;
+    }
+
+    /**
+     * Delete everything still queued, after any background batch in progress. Called once the run is over.
+     */
+    public static void flushAtSuiteEnd() {
+        FLUSHER.shutdown();
+        try {
+            if (!FLUSHER.awaitTermination(5, TimeUnit.MINUTES)) {
+                LOGGER.warn("Background cleanup batch still running at suite end");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flushPending();
+    }
+
+    public static Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", DEFERRED ? "deferred" : "scenario");
+        stats.put("deferredScenarios", deferredScenarios.get());
+        stats.put("batches", batches.sum());
+        stats.put("deleted", deleted.sum());
+        stats.put("alreadyGone", alreadyGone.sum());
+        stats.put("failed", failed.sum());
+        stats.put("cleanupMillis", cleanupMillis.sum());
+        return stats;
+    }
+
+    private static void flushPending() {
+        ResourceRegistry batch;
+        synchronized (CleanupScheduler.class) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ResourceRegistry();
+        }
+        try {
+            ResourceCleanup.Summary summary = count(ResourceCleanup.deleteAll(pendingBaseUrl, batch));
+            batches.increment();
+            LOGGER.info("Deferred cleanup: {} deleted, {} already gone, {} failed, {} retries in {} ms",
+                    summary.deleted(), summary.alreadyGone(), summary.failed(), summary.retries(), summary.millis());
+        } catch (Exception e) {
+            LOGGER.error("Deferred cleanup failed: {}", e.getMessage());
+        } finally {
+            // Not a scenario thread, so Hooks never releases the admin account the batch leased
+            AccountPool.releaseCurrentThread();
+        }
+    }
+
+    private static ResourceCleanup.Summary count(ResourceCleanup.Summary summary) {
+        deleted.add(summary.deleted());
+        alreadyGone.add(summary.alreadyGone());
+        failed.add(summary.failed());
+        cleanupMillis.add(summary.millis());
+        return summary;
+    }
+}
@@ -0,0 +1,135 @@
+package com.qatraining.api;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.qatraining.utils.TestConfig;
+import net.serenitybdd.core.Serenity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records API request/response exchanges for the log and the Serenity report.
+ *
+ * Nothing is formatted unless someone will read it: the log side is gated by
+ * http.exchange.log (off, debug or info) and the logger's own level, the report side by
+ * http.exchange.report. Bodies longer than http.exchange.body.limit characters are truncated.
+ * Log output is formatted and written on a single background thread; report entries are
+ * recorded on the calling thread because Serenity attaches them to the current step.
+ *
+ * Report entries are off by default: the calls already reach the report through
+ * {@link ReportRecording}, so turning them on while it records them shows each exchange twice.
+ */
+public final class ExchangeRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExchangeRecorder.class);
+
+    private static final String RULE = "═══════════════════════════════════════════════════════════════";
+
+    private static final String LOG_LEVEL = TestConfig.get("http.exchange.log", "debug").trim().toLowerCase(Locale.ROOT);
+    private static final boolean REPORT = TestConfig.getBoolean("http.exchange.report", false);
+    private static final int BODY_LIMIT = TestConfig.getInt("http.exchange.body.limit", 2048);
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
+
+    private static final ExecutorService SINK = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "http-exchange-log");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ExchangeRecorder::flush, "http-exchange-log-flush"));
+    }
+
+    private ExchangeRecorder() {
+    }
+
+    /**
+     * Record one exchange.
+     *
+     * @param title       short label, e.g. "CREATE PLANT"
+     * @param method      HTTP method
+     * @param url         full request URL
+     * @param requestBody request payload (serialized as JSON), or null if there was none
+     * @param response    the response received
+     */
+    public static void record(String title, String method, String url, Object requestBody, ResponseView response) {
+        boolean log = logEnabled();
+        if (!log && !REPORT) {
+            return;
+        }
+
+        int status = response.statusCode();
+        String statusLine = response.statusLine();
+        String responseBody = response.body();
+
+        if (REPORT) {
+            String requestText = formatRequest(method, url, requestBody);
+            String responseText = formatResponse(status, statusLine, responseBody);
+            Serenity.recordReportData().withTitle("📤 HTTP REQUEST - " + title).andContents(requestText);
+            Serenity.recordReportData().withTitle("📥 HTTP RESPONSE - " + title).andContents(responseText);
+            if (log) {
+                SINK.execute(() -> write(requestText + "\n" + responseText));
+            }
+        } else {
+            SINK.execute(() -> write(formatRequest(method, url, requestBody) + "\n"
+                    + formatResponse(status, statusLine, responseBody)));
+        }
+    }
+
+    /**
+     * Wait briefly for pending log entries to be written; runs at JVM shutdown.
+     */
+    private static void flush() {
+        SINK.shutdown();
+        try {
+            SINK.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean logEnabled() {
+        return switch (LOG_LEVEL) {
+            case "info" -> LOGGER.isInfoEnabled();
+            case "debug" -> LOGGER.isDebugEnabled();
+            default -> false;
+        };
+    }
+
+    private static void write(String text) {
+        if ("info".equals(LOG_LEVEL)) {
+            LOGGER.info("\n{}", text);
+        } else {
+            LOGGER.debug("\n{}", text);
+        }
+    }
+
+    private static String formatRequest(String method, String url, Object body) {
+        return RULE + "\nHTTP REQUEST\n" + RULE +
+                "\nMethod: " + method +
+                "\nURL: " + url +
+                "\nRequest Body: " + (body == null ? "(none)" : "\n" + truncate(GSON.toJson(body))) +
+                "\n" + RULE;
+    }
+
+    private static String formatResponse(int status, String statusLine, String body) {
+        return RULE + "\nHTTP RESPONSE\n" + RULE +
+                "\nStatus Code: " + status +
+                "\nStatus Line: " + statusLine +
+                "\nResponse Body: " + (body == null || body.isEmpty() ? "(empty)" : "\n" + truncate(body)) +
+                "\n" + RULE;
+    }
+
+    private static String truncate(String text) {
+        if (BODY_LIMIT <= 0 || text.length() <= BODY_LIMIT) {
+            return text;
+        }
+        return text.substring(0, BODY_LIMIT) + "\n... (" + (text.length() - BODY_LIMIT) + " more characters)";
+    }
+}
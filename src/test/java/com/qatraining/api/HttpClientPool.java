@@ -0,0 +1,219 @@
+package com.qatraining.api;
+
+import com.qatraining.utils.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pooled keep-alive HTTP client and timeout budgets for RestAssured/SerenityRest.
+ *
+ * By default RestAssured builds a new client per request and shuts its connection manager
+ * down afterwards, so every call opens a fresh TCP connection. Here a single client backed
+ * by a connection pool is reused, idle connections are evicted in the background and pool
+ * activity is counted: leases, leases that had to wait for a free connection, and how many
+ * leases reused an open connection instead of connecting.
+ *
+ * Sizing comes from test-config.properties (http.pool.*); http.pool.enabled=false keeps
+ * RestAssured's default client. Either way every request gets the connect and read timeouts
+ * from http.connect.timeout.ms and http.read.timeout.ms (waiting for a pooled connection is
+ * bounded by the connect timeout too), so a hung backend fails the call instead of the worker.
+ */
+public final class HttpClientPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientPool.class);
+
+    private static final boolean ENABLED = TestConfig.getBoolean("http.pool.enabled", true);
+    private static final int MAX_TOTAL = TestConfig.getInt("http.pool.max.total", 50);
+    private static final int MAX_PER_ROUTE = TestConfig.getInt("http.pool.max.per.route", 20);
+    private static final long IDLE_EVICT_SECONDS = TestConfig.getLong("http.pool.idle.evict.seconds", 30);
+
+    public static final int CONNECT_TIMEOUT_MS = TestConfig.getInt("http.connect.timeout.ms", 5000);
+    public static final int READ_TIMEOUT_MS = TestConfig.getInt("http.read.timeout.ms", 30000);
+
+    private static final LongAdder LEASES = new LongAdder();
+    private static final LongAdder WAITS = new LongAdder();
+    private static final LongAdder WAIT_NANOS = new LongAdder();
+    private static final LongAdder CONNECTIONS_OPENED = new LongAdder();
+
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean(false);
+
+    private static final CountingConnectionManager CONNECTION_MANAGER = ENABLED ? createConnectionManager() : null;
+
+    private HttpClientPool() {
+    }
+
+    @SuppressWarnings("deprecation")
+    private static CountingConnectionManager createConnectionManager() {
+        CountingConnectionManager manager = new CountingConnectionManager();
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "http-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(IDLE_EVICT_SECONDS, TimeUnit.SECONDS);
+        }, IDLE_EVICT_SECONDS, IDLE_EVICT_SECONDS, TimeUnit.SECONDS);
+        return manager;
+    }
+
+    /**
+     * RestAssured configuration using the pooled client and timeouts, based on the current global config.
+     */
+    @SuppressWarnings("deprecation")
+    public static RestAssuredConfig restAssuredConfig() {
+        HttpClientConfig clientConfig = timeouts();
+        if (ENABLED) {
+            clientConfig = clientConfig
+                    .reuseHttpClientInstance()
+                    .httpClientFactory(() -> new DefaultHttpClient(CONNECTION_MANAGER));
+        }
+        return RestAssured.config().httpClient(clientConfig);
+    }
+
+    /**
+     * Configuration with the timeouts but a private, per-request client, for requests that change
+     * client-level settings (such as redirect handling). On the shared pooled client those settings
+     * would leak into concurrent requests.
+     */
+    public static RestAssuredConfig unsharedConfig() {
+        return RestAssured.config().httpClient(timeouts());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static HttpClientConfig timeouts() {
+        return HttpClientConfig.httpClientConfig()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, CONNECT_TIMEOUT_MS)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, READ_TIMEOUT_MS)
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) CONNECT_TIMEOUT_MS);
+    }
+
+    /**
+     * Make the pooled client and timeouts RestAssured's global default. Idempotent.
+     */
+    public static void install() {
+        if (INSTALLED.compareAndSet(false, true)) {
+            RestAssured.config = restAssuredConfig();
+            if (ENABLED) {
+                LOGGER.info("Using pooled keep-alive HTTP client (max total {}, max per route {}, idle eviction {}s)",
+                        MAX_TOTAL, MAX_PER_ROUTE, IDLE_EVICT_SECONDS);
+            }
+            LOGGER.info("HTTP timeouts: connect {} ms, read {} ms", CONNECT_TIMEOUT_MS, READ_TIMEOUT_MS);
+        }
+    }
+
+    /**
+     * Pool figures for reporting.
+     */
+    @SuppressWarnings("deprecation")
+    public static Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", ENABLED);
+        long leases = LEASES.sum();
+        long opened = CONNECTIONS_OPENED.sum();
+        stats.put("leases", leases);
+        stats.put("waits", WAITS.sum());
+        stats.put("waitMillis", TimeUnit.NANOSECONDS.toMillis(WAIT_NANOS.sum()));
+        stats.put("connectionsOpened", opened);
+        stats.put("reuseRatio", leases == 0 ? 0.0 : Math.max(0.0, 1.0 - (double) opened / leases));
+        if (CONNECTION_MANAGER != null) {
+            PoolStats total = CONNECTION_MANAGER.getTotalStats();
+            stats.put("leased", total.getLeased());
+            stats.put("available", total.getAvailable());
+            stats.put("pending", total.getPending());
+            stats.put("maxTotal", total.getMax());
+        }
+        return stats;
+    }
+
+    /**
+     * Connection manager that counts leases, waits for a free connection and new connections.
+     */
+    @SuppressWarnings("deprecation")
+    private static final class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        private CountingConnectionManager() {
+            super(SchemeRegistryFactory.createDefault());
+        }
+
+        @Override
+        protected DefaultClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new CountingConnectionOperator(schemeRegistry);
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            PoolStats routeStats = getStats(route);
+            boolean mustWait = routeStats.getAvailable() == 0 && routeStats.getLeased() >= routeStats.getMax();
+            ClientConnectionRequest delegate = super.requestConnection(route, state);
+            LEASES.increment();
+            if (mustWait) {
+                WAITS.increment();
+            }
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return delegate.getConnection(timeout, unit);
+                    } finally {
+                        WAIT_NANOS.add(System.nanoTime() - start);
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    delegate.abortRequest();
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static final class CountingConnectionOperator extends DefaultClientConnectionOperator {
+
+        private CountingConnectionOperator(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                   HttpContext context, HttpParams params) throws IOException {
+            CONNECTIONS_OPENED.increment();
+            super.openConnection(conn, target, local, context, params);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.qatraining.api;
+
+import com.google.gson.Gson;
+import com.qatraining.hooks.AuthenticationManager;
+import com.qatraining.utils.ScenarioWatchdog;
+import com.qatraining.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight transport on java.net.http.HttpClient, without RestAssured, Groovy or Serenity's
+ * request recording. One client is shared by all threads; it keeps connections alive and, with
+ * api.transport.http2=true, negotiates HTTP/2 where the server supports it and falls back to
+ * HTTP/1.1 otherwise. Requests are sent asynchronously; {@link #send} waits for the result.
+ *
+ * Bearer tokens come from AuthenticationManager, and a 401 is retried once with a refreshed
+ * token, matching what RefreshOn401Filter does for RestAssured. Connect and response timeouts
+ * are the same budgets HttpClientPool gives RestAssured.
+ */
+final class JdkHttpTransport implements ApiTransport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdkHttpTransport.class);
+
+    private static final Gson GSON = new Gson();
+
+    private static final boolean HTTP2 = TestConfig.getBoolean("api.transport.http2", true);
+
+    private static final LongAdder REQUESTS = new LongAdder();
+    private static final LongAdder FAILURES = new LongAdder();
+    private static final LongAdder REPLAYS = new LongAdder();
+    private static final LongAdder NANOS = new LongAdder();
+    private static final Map<Integer, LongAdder> STATUS_CLASSES = new LinkedHashMap<>();
+
+    static {
+        for (int statusClass = 1; statusClass <= 5; statusClass++) {
+            STATUS_CLASSES.put(statusClass, new LongAdder());
+        }
+    }
+
+    private static final ThreadLocal<ScenarioTally> SCENARIO = ThreadLocal.withInitial(ScenarioTally::new);
+
+    private static final class ScenarioTally {
+        long requests;
+        long nanos;
+        final Map<Integer, Integer> statuses = new LinkedHashMap<>();
+    }
+
+    // Declared after the settings above, which the client is built from
+    static final JdkHttpTransport INSTANCE = new JdkHttpTransport();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HTTP2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(HttpClientPool.CONNECT_TIMEOUT_MS))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private JdkHttpTransport() {
+    }
+
+    @Override
+    public ResponseView send(String baseUrl, String role, String method, String path, Object body) {
+        ScenarioWatchdog.checkDeadline();
+        long start = System.nanoTime();
+        try {
+            ResponseView response = sendAsync(baseUrl, role, method, path, body).join();
+            long nanos = System.nanoTime() - start;
+            ScenarioTally tally = SCENARIO.get();
+            tally.requests++;
+            tally.nanos += nanos;
+            tally.statuses.merge(response.statusCode(), 1, Integer::sum);
+            return response;
+        } catch (CompletionException e) {
+            FAILURES.increment();
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException(method + " " + path + " failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Send without waiting; suitable for issuing many requests from one thread.
+     */
+    CompletableFuture<ResponseView> sendAsync(String baseUrl, String role, String method, String path, Object body) {
+        String token = AuthenticationManager.getToken(role);
+        long start = System.nanoTime();
+        return exchange(baseUrl, method, path, body, token).thenCompose(response -> {
+            if (response.statusCode() != 401 || path.contains("/auth/") || token == null) {
+                return CompletableFuture.completedFuture(response);
+            }
+            String fresh = AuthenticationManager.refreshRejectedToken(token);
+            if (fresh == null || fresh.equals(token)) {
+                return CompletableFuture.completedFuture(response);
+            }
+            LOGGER.info("Replaying {} {} with a refreshed token after 401", method, path);
+            REPLAYS.increment();
+            return exchange(baseUrl, method, path, body, fresh);
+        }).thenApply(response -> {
+            REQUESTS.increment();
+            NANOS.add(System.nanoTime() - start);
+            LongAdder statusClass = STATUS_CLASSES.get(response.statusCode() / 100);
+            if (statusClass != null) {
+                statusClass.increment();
+            }
+            return response;
+        });
+    }
+
+    private CompletableFuture<ResponseView> exchange(String baseUrl, String method, String path, Object body,
+                                                     String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(HttpClientPool.READ_TIMEOUT_MS))
+                .header("Accept", "application/json");
+        if (token != null && !token.isEmpty()) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(GSON.toJson(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> ResponseView.of(response.statusCode(),
+                        response.version() + " " + response.statusCode(), response.body()));
+    }
+
+    /**
+     * GET {@code path} with the body left on the connection, for callers that stream large lists
+     * instead of buffering them. Not counted in the transport stats; the caller closes the body.
+     */
+    HttpResponse<InputStream> openStream(String baseUrl, String path, String token)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(HttpClientPool.READ_TIMEOUT_MS))
+                .header("Accept", "application/json")
+                .GET();
+        if (token != null && !token.isEmpty()) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    @Override
+    public boolean reportsExchanges() {
+        return false;
+    }
+
+    @Override
+    public void startScenario() {
+        SCENARIO.set(new ScenarioTally());
+    }
+
+    @Override
+    public String scenarioSummary() {
+        ScenarioTally tally = SCENARIO.get();
+        if (tally.requests == 0) {
+            return null;
+        }
+        return "Transport: java.net.http (" + (HTTP2 ? "HTTP/2 where available" : "HTTP/1.1") + ")" +
+                "\nRequests: " + tally.requests +
+                "\nStatus codes: " + tally.statuses +
+                "\nTime in requests: " + TimeUnit.NANOSECONDS.toMillis(tally.nanos) + " ms";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long requests = REQUESTS.sum();
+        long millis = TimeUnit.NANOSECONDS.toMillis(NANOS.sum());
+        stats.put("transport", "jdk");
+        stats.put("http2", HTTP2);
+        stats.put("requests", requests);
+        stats.put("failures", FAILURES.sum());
+        stats.put("replaysAfter401", REPLAYS.sum());
+        stats.put("millisTotal", millis);
+        stats.put("millisAvg", requests == 0 ? 0 : (double) millis / requests);
+        Map<String, Long> statusClasses = new LinkedHashMap<>();
+        STATUS_CLASSES.forEach((statusClass, count) -> statusClasses.put(statusClass + "xx", count.sum()));
+        stats.put("statusClasses", statusClasses);
+        return stats;
+    }
+}
@@ -0,0 +1,140 @@
+package com.qatraining.api;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Token-level processing of JSON list responses. Elements are read one at a time and
+ * discarded, so no object graph is built for the list. Memory use stays flat only when the
+ * stream comes straight off the connection (see ResourceCleanup); over a buffered body it
+ * saves parse work, not the body itself.
+ *
+ * A list is either a top-level array or the "content" array of a paged response.
+ */
+public final class JsonStreams {
+
+    private static final String PAGE_CONTENT = "content";
+
+    private JsonStreams() {
+    }
+
+    /**
+     * Count the elements of a list response.
+     *
+     * @return the number of elements, or -1 if the body is empty or not a list
+     */
+    public static int countElements(InputStream body) {
+        try (JsonReader reader = open(body)) {
+            if (!enterList(reader)) {
+                return -1;
+            }
+            int count = 0;
+            while (reader.hasNext()) {
+                reader.skipValue();
+                count++;
+            }
+            return count;
+        } catch (IOException | IllegalStateException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Project {@code idField} of every list element whose {@code filterField} matches.
+     *
+     * <pre>
+     * JsonStreams.selectIds(body, "id", "name", name -> name.contains("test"))
+     * </pre>
+     *
+     * @return ids as text, in list order; elements without an id are skipped
+     */
+    public static List<String> selectIds(InputStream body, String idField, String filterField,
+                                         Predicate<String> filter) {
+        List<String> ids = new ArrayList<>();
+        try (JsonReader reader = open(body)) {
+            if (!enterList(reader)) {
+                return ids;
+            }
+            while (reader.hasNext()) {
+                if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    reader.skipValue();
+                    continue;
+                }
+                String id = null;
+                String value = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if (name.equals(idField)) {
+                        id = scalar(reader);
+                    } else if (name.equals(filterField)) {
+                        value = scalar(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                if (id != null && value != null && filter.test(value)) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON list", e);
+        }
+    }
+
+    private static JsonReader open(InputStream body) {
+        return new JsonReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Position the reader inside the list array.
+     *
+     * @return false if the document is empty or holds no list
+     */
+    private static boolean enterList(JsonReader reader) throws IOException {
+        JsonToken first = reader.peek();
+        if (first == JsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            return true;
+        }
+        if (first != JsonToken.BEGIN_OBJECT) {
+            return false;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(PAGE_CONTENT) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                return true;
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
+
+    private static String scalar(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case STRING, NUMBER -> reader.nextString();
+            case BOOLEAN -> String.valueOf(reader.nextBoolean());
+            case NULL -> {
+                reader.nextNull();
+                yield null;
+            }
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+}
@@ -0,0 +1,218 @@
+package com.qatraining.api;
+
+import com.qatraining.hooks.AccountPool;
+import com.qatraining.hooks.AuthenticationManager;
+import com.qatraining.utils.TestConfig;
+import com.qatraining.utils.UniqueNames;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plants with known stock for scenarios that need one of their own (sales), so scenarios stop
+ * sharing stock through hard-coded plant IDs.
+ *
+ * The first lease creates plant.pool.size plants in parallel, each with plant.pool.stock units,
+ * under the plant.pool.category sub-category. A lease takes a free plant, or creates another one
+ * when all are taken, so leasing never waits. Leases are per scenario thread and keyed by the
+ * alias the scenario gives the plant. When Hooks releases them the stock is reset and the plant
+ * goes back to the pool; a plant that cannot be reset is retired. Every pooled plant is deleted
+ * by {@link #deleteAll()} when the run ends.
+ */
+public final class PlantPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlantPool.class);
+
+    private static final String POOL_ROLE = "admin";
+
+    private static final int SIZE = TestConfig.getInt("plant.pool.size", 10);
+    private static final int STOCK = TestConfig.getInt("plant.pool.stock", 5);
+    private static final int PRICE = TestConfig.getInt("plant.pool.price", 100);
+    private static final String CATEGORY = TestConfig.get("plant.pool.category", "Flower");
+
+    public record PooledPlant(String id, String name, int stock) {
+    }
+
+    private static final BlockingQueue<PooledPlant> AVAILABLE = new LinkedBlockingQueue<>();
+    private static final Set<PooledPlant> ALL = ConcurrentHashMap.newKeySet();
+
+    // Plants leased by the scenario on this thread, by alias
+    private static final ThreadLocal<Map<String, PooledPlant>> LEASES = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private static volatile String poolBaseUrl;
+    private static volatile String categoryId;
+
+    private static final LongAdder created = new LongAdder();
+    private static final LongAdder leases = new LongAdder();
+    private static final LongAdder recycled = new LongAdder();
+    private static final LongAdder retired = new LongAdder();
+
+    private PlantPool() {
+    }
+
+    /**
+     * The plant the current scenario knows as {@code alias}, leased for its exclusive use on first
+     * request and kept until {@link #releaseCurrentThread}.
+     */
+    public static PooledPlant lease(String baseUrl, String alias) {
+        Map<String, PooledPlant> leased = LEASES.get();
+        PooledPlant plant = leased.get(alias);
+        if (plant != null) {
+            return plant;
+        }
+        RequestSpecification adminSpec = adminSpec(baseUrl);
+        provision(baseUrl, adminSpec);
+        plant = AVAILABLE.poll();
+        if (plant == null) {
+            plant = create(adminSpec);
+        }
+        leases.increment();
+        leased.put(alias, plant);
+        return plant;
+    }
+
+    /**
+     * Reset the stock of every plant leased by the current thread and return them to the pool;
+     * a plant whose reset fails is retired.
+     */
+    public static void releaseCurrentThread(String baseUrl) {
+        Map<String, PooledPlant> leased = LEASES.get();
+        if (leased.isEmpty()) {
+            return;
+        }
+        RequestSpecification adminSpec = adminSpec(baseUrl);
+        leased.values().forEach(plant -> release(adminSpec, plant));
+        leased.clear();
+    }
+
+    private static void release(RequestSpecification adminSpec, PooledPlant plant) {
+        Map<String, Object> restock = new LinkedHashMap<>();
+        restock.put("name", plant.name());
+        restock.put("price", PRICE);
+        restock.put("quantity", plant.stock());
+        try {
+            int status = RestAssured.given().spec(adminSpec)
+                    .body(restock)
+                    .put("/api/plants/" + plant.id())
+                    .getStatusCode();
+            if (status == 200) {
+                recycled.increment();
+                AVAILABLE.offer(plant);
+                return;
+            }
+            LOGGER.warn("Restocking pooled plant {} returned HTTP {}; retiring it", plant.id(), status);
+        } catch (Exception e) {
+            LOGGER.warn("Restocking pooled plant {} failed: {}; retiring it", plant.id(), e.getMessage());
+        }
+        retired.increment();
+    }
+
+    /**
+     * Delete every pooled plant, leased or not. Called once the run is over.
+     *
+     * @return the cleanup summary, or null if the pool was never used
+     */
+    public static ResourceCleanup.Summary deleteAll() {
+        if (poolBaseUrl == null || ALL.isEmpty()) {
+            return null;
+        }
+        ResourceRegistry registry = new ResourceRegistry();
+        ALL.forEach(plant -> registry.register(ResourceRegistry.Kind.PLANT, plant.id()));
+        ALL.clear();
+        AVAILABLE.clear();
+        try {
+            return ResourceCleanup.deleteAll(poolBaseUrl, registry);
+        } finally {
+            // Runs on the launcher thread, which Hooks never releases
+            AccountPool.releaseCurrentThread();
+        }
+    }
+
+    public static Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("created", created.sum());
+        stats.put("leases", leases.sum());
+        stats.put("recycled", recycled.sum());
+        stats.put("retired", retired.sum());
+        return stats;
+    }
+
+    /**
+     * Admin spec carrying the token of the account the calling thread leased, so the provisioning
+     * workers never lease accounts of their own.
+     */
+    private static RequestSpecification adminSpec(String baseUrl) {
+        return ApiRequestSpecs.withToken(baseUrl, AuthenticationManager.getToken(POOL_ROLE));
+    }
+
+    private static void provision(String baseUrl, RequestSpecification adminSpec) {
+        if (poolBaseUrl != null) {
+            return;
+        }
+        synchronized (PlantPool.class) {
+            if (poolBaseUrl != null) {
+                return;
+            }
+            categoryId = CategoryIndex.resolve(baseUrl, POOL_ROLE, CATEGORY);
+            if (categoryId == null) {
+                throw new IllegalStateException("Plant pool category '" + CATEGORY
+                        + "' does not exist; set plant.pool.category to an existing sub-category");
+            }
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<PooledPlant>> futures = new ArrayList<>();
+                for (int i = 0; i < SIZE; i++) {
+                    futures.add(executor.submit(() -> create(adminSpec)));
+                }
+                for (Future<PooledPlant> future : futures) {
+                    try {
+                        AVAILABLE.offer(future.get());
+                    } catch (ExecutionException e) {
+                        LOGGER.warn("Could not create a pooled plant: {}", e.getCause().getMessage());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            poolBaseUrl = baseUrl;
+            LOGGER.info("Plant pool provisioned with {} plant(s) of {} units in {} ms", AVAILABLE.size(), STOCK,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static PooledPlant create(RequestSpecification adminSpec) {
+        String name = UniqueNames.of("Pool Plant");
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("name", name);
+        payload.put("price", PRICE);
+        payload.put("quantity", STOCK);
+        payload.put("categoryId", Integer.parseInt(categoryId));
+        ResponseView response = ResponseView.of(RestAssured.given().spec(adminSpec)
+                .body(payload)
+                .post("/api/plants/category/" + categoryId));
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Creating pooled plant returned HTTP " + response.statusCode()
+                    + ": " + response.body());
+        }
+        PooledPlant plant = new PooledPlant(response.getString("id"), name, STOCK);
+        ALL.add(plant);
+        created.increment();
+        return plant;
+    }
+}
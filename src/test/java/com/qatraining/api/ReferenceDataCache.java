@@ -0,0 +1,153 @@
+package com.qatraining.api;
+
+import com.qatraining.utils.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Suite-wide HTTP cache for reference endpoints whose data does not change during a run
+ * (categories, sub-categories).
+ *
+ * A cached 200 response is served without a request until it expires: after the response's
+ * Cache-Control max-age if positive, otherwise after reference.cache.ttl.seconds. An expired entry with an
+ * ETag or Last-Modified is revalidated with a conditional GET, and a 304 extends it without
+ * transferring the body again. Entries are shared by all roles and threads; concurrent misses
+ * for the same URL wait for a single request.
+ */
+public final class ReferenceDataCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private static final boolean ENABLED = TestConfig.getBoolean("reference.cache.enabled", true);
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(TestConfig.getLong("reference.cache.ttl.seconds", 300));
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder REVALIDATED = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    // Body kept as bytes; each caller gets its own view, so lazily parsed state is never shared
+    private record Entry(String statusLine, byte[] body, String etag, String lastModified, Instant expiresAt) {
+
+        ResponseView view() {
+            return ResponseView.of(200, statusLine, body);
+        }
+
+        Entry extendedTo(Instant newExpiry) {
+            return new Entry(statusLine, body, etag, lastModified, newExpiry);
+        }
+    }
+
+    private ReferenceDataCache() {
+    }
+
+    /**
+     * GET {@code path} as {@code role}, from the cache when possible.
+     */
+    public static ResponseView get(String baseUrl, String role, String path) {
+        if (!ENABLED) {
+            MISSES.increment();
+            return ResponseView.of(request(baseUrl, role).get(path));
+        }
+        String key = baseUrl + path;
+        Entry entry = ENTRIES.get(key);
+        if (entry != null && Instant.now().isBefore(entry.expiresAt())) {
+            HITS.increment();
+            return entry.view();
+        }
+        synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+            entry = ENTRIES.get(key);
+            if (entry != null && Instant.now().isBefore(entry.expiresAt())) {
+                HITS.increment();
+                return entry.view();
+            }
+            return fetch(key, baseUrl, role, path, entry);
+        }
+    }
+
+    /**
+     * Drop every cached entry, e.g. after a scenario changed reference data.
+     */
+    public static void invalidateAll() {
+        ENTRIES.clear();
+    }
+
+    /**
+     * Hit, revalidation and miss counts for reporting.
+     */
+    public static Map<String, Object> stats() {
+        long hits = HITS.sum();
+        long revalidated = REVALIDATED.sum();
+        long misses = MISSES.sum();
+        long total = hits + revalidated + misses;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", ENABLED);
+        stats.put("hits", hits);
+        stats.put("revalidated", revalidated);
+        stats.put("misses", misses);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) (hits + revalidated) / total);
+        stats.put("entries", ENTRIES.size());
+        return stats;
+    }
+
+    private static ResponseView fetch(String key, String baseUrl, String role, String path, Entry stale) {
+        RequestSpecification request = request(baseUrl, role);
+        if (stale != null && stale.etag() != null) {
+            request.header("If-None-Match", stale.etag());
+        }
+        if (stale != null && stale.lastModified() != null) {
+            request.header("If-Modified-Since", stale.lastModified());
+        }
+        Response response = request.get(path);
+
+        if (response.getStatusCode() == 304 && stale != null) {
+            REVALIDATED.increment();
+            ENTRIES.put(key, stale.extendedTo(expiry(response)));
+            return stale.view();
+        }
+
+        MISSES.increment();
+        ResponseView view = ResponseView.of(response);
+        if (response.getStatusCode() == 200) {
+            ENTRIES.put(key, new Entry(response.getStatusLine(), response.asByteArray(),
+                    response.getHeader("ETag"), response.getHeader("Last-Modified"), expiry(response)));
+            LOGGER.debug("Cached reference data {}", key);
+        } else {
+            ENTRIES.remove(key);
+        }
+        return view;
+    }
+
+    private static RequestSpecification request(String baseUrl, String role) {
+        return RestAssured.given().spec(ApiRequestSpecs.forRole(baseUrl, role));
+    }
+
+    private static Instant expiry(Response response) {
+        // Spring Security sends "no-cache, no-store, max-age=0" on every response regardless of the
+        // data, so only a positive max-age is taken as a real freshness hint
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null) {
+            Matcher maxAge = MAX_AGE.matcher(cacheControl);
+            if (maxAge.find() && Long.parseLong(maxAge.group(1)) > 0) {
+                return Instant.now().plusSeconds(Long.parseLong(maxAge.group(1)));
+            }
+        }
+        return Instant.now().plus(DEFAULT_TTL);
+    }
+}
@@ -0,0 +1,73 @@
+package com.qatraining.api;
+
+import com.qatraining.hooks.AuthenticationManager;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recovers from tokens that go stale mid-run. When a non-auth endpoint answers 401 to a
+ * bearer token issued by AuthenticationManager, the token is invalidated, a fresh one is
+ * obtained (single-flight, so concurrent 401s share one login) and the request is replayed once.
+ */
+public class RefreshOn401Filter implements Filter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshOn401Filter.class);
+
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean(false);
+    private static final LongAdder REPLAYS = new LongAdder();
+
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER = "Bearer ";
+
+    /**
+     * Register the filter for every RestAssured/SerenityRest request. Idempotent.
+     */
+    public static void install() {
+        if (INSTALLED.compareAndSet(false, true)) {
+            RestAssured.filters(new RefreshOn401Filter());
+            LOGGER.info("Registered global 401 refresh-and-replay filter");
+        }
+    }
+
+    /**
+     * Number of requests replayed with a refreshed token.
+     */
+    public static long getReplays() {
+        return REPLAYS.sum();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() != 401 || requestSpec.getURI().contains("/auth/")) {
+            return response;
+        }
+
+        String header = requestSpec.getHeaders().getValue(AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER)) {
+            return response;
+        }
+
+        String rejected = header.substring(BEARER.length());
+        String fresh = AuthenticationManager.refreshRejectedToken(rejected);
+        if (fresh == null || fresh.equals(rejected)) {
+            return response;
+        }
+
+        LOGGER.info("Replaying {} {} with a refreshed token after 401", requestSpec.getMethod(), requestSpec.getURI());
+        REPLAYS.increment();
+        requestSpec.replaceHeader(AUTHORIZATION, BEARER + fresh);
+        return ctx.next(requestSpec, responseSpec);
+    }
+}
@@ -0,0 +1,238 @@
+package com.qatraining.api;
+
+import com.qatraining.utils.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import net.serenitybdd.core.Serenity;
+import net.serenitybdd.rest.SerenityRest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides how much REST traffic ends up in the Serenity report.
+ *
+ * A policy is one of
+ * <ul>
+ *   <li>{@code all} - every call, recorded by SerenityRest as usual</li>
+ *   <li>{@code failures} - only calls answered with 4xx/5xx</li>
+ *   <li>{@code sample:N} - every Nth call, plus any failure</li>
+ *   <li>{@code none} - nothing</li>
+ * </ul>
+ * optionally followed by {@code ,cap:BYTES} to truncate recorded bodies. With anything other than
+ * plain {@code all}, requests are sent through RestAssured directly and the calls the policy keeps
+ * are added to the report with their bodies capped.
+ *
+ * Policies come from test-config.properties: report.rest.policy is the default,
+ * report.rest.policy.tag.&lt;tag&gt; applies to scenarios with that tag (without the "@"), and
+ * report.rest.policy.class.&lt;StepClass&gt; applies to calls made from that step definition class.
+ * A class policy wins over a tag policy. When several of a scenario's tags have a policy, the most
+ * restrictive one applies (none, then failures, then sample with the largest N, then all; among
+ * equals the smallest body cap), so the outcome does not depend on tag order. Cleanup traffic from
+ * Hooks is not recorded unless report.rest.policy.class.Hooks says otherwise.
+ *
+ * {@code sample:N} counts calls per scenario, so which calls are sampled does not depend on what
+ * other scenarios run at the same time.
+ */
+public final class ReportRecording {
+
+    private static final String PREFIX = "report.rest.policy";
+    private static final String STEP_PACKAGE = "com.qatraining.stepdefinitions";
+
+    private static final Map<String, String> BUILT_IN_CLASS_POLICIES = Map.of("Hooks", "none");
+
+    private static final Policy DEFAULT = Policy.parse(TestConfig.get(PREFIX, "all"));
+
+    private static final ThreadLocal<ScenarioState> SCENARIO = ThreadLocal.withInitial(() -> new ScenarioState(DEFAULT));
+    private static final Map<Class<?>, Optional<Policy>> CLASS_POLICIES = new ConcurrentHashMap<>();
+    private static final StackWalker STACK = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final LongAdder RECORDED = new LongAdder();
+    private static final LongAdder SKIPPED = new LongAdder();
+
+    private enum Mode { ALL, FAILURES, SAMPLE, NONE }
+
+    private record Policy(Mode mode, int sampleEvery, int bodyCap) {
+
+        static Policy parse(String spec) {
+            Mode mode = Mode.ALL;
+            int sampleEvery = 1;
+            int bodyCap = 0;
+            for (String part : spec.toLowerCase(Locale.ROOT).split(",")) {
+                String[] kv = part.trim().split(":", 2);
+                switch (kv[0]) {
+                    case "all" -> mode = Mode.ALL;
+                    case "failures" -> mode = Mode.FAILURES;
+                    case "none" -> mode = Mode.NONE;
+                    case "sample" -> {
+                        mode = Mode.SAMPLE;
+                        sampleEvery = kv.length > 1 ? Math.max(1, Integer.parseInt(kv[1].trim())) : 10;
+                    }
+                    case "cap" -> bodyCap = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 0;
+                    default -> throw new IllegalArgumentException("Unknown REST report policy '" + spec + "'");
+                }
+            }
+            return new Policy(mode, sampleEvery, bodyCap);
+        }
+
+        /**
+         * Orders policies from most to least restrictive.
+         */
+        static final Comparator<Policy> RESTRICTIVENESS = Comparator
+                .comparingInt((Policy p) -> switch (p.mode()) {
+                    case NONE -> 0;
+                    case FAILURES -> 1;
+                    case SAMPLE -> 2;
+                    case ALL -> 3;
+                })
+                .thenComparing(Comparator.comparingInt(Policy::sampleEvery).reversed())
+                .thenComparingInt(p -> p.bodyCap() > 0 ? p.bodyCap() : Integer.MAX_VALUE);
+
+        boolean recordsNatively() {
+            return mode == Mode.ALL && bodyCap <= 0;
+        }
+
+        boolean keeps(int statusCode, long call) {
+            return switch (mode) {
+                case ALL -> true;
+                case FAILURES -> statusCode >= 400;
+                case SAMPLE -> statusCode >= 400 || call % sampleEvery == 0;
+                case NONE -> false;
+            };
+        }
+    }
+
+    /**
+     * The policy of the scenario running on a thread and its own call counter for sampling.
+     */
+    private record ScenarioState(Policy policy, AtomicLong calls) {
+
+        ScenarioState(Policy policy) {
+            this(policy, new AtomicLong());
+        }
+    }
+
+    private ReportRecording() {
+    }
+
+    /**
+     * Select the policy for the scenario starting on this thread from its tags.
+     */
+    public static void startScenario(Collection<String> tags) {
+        Policy policy = tags.stream()
+                .map(tag -> TestConfig.get(PREFIX + ".tag." + tag.replaceFirst("^@", ""), null))
+                .filter(Objects::nonNull)
+                .map(Policy::parse)
+                .min(Policy.RESTRICTIVENESS)
+                .orElse(DEFAULT);
+        SCENARIO.set(new ScenarioState(policy));
+    }
+
+    /**
+     * Start a request recorded according to the policy for the calling step class and
+     * the current scenario. Use in place of {@code SerenityRest.given()}.
+     */
+    public static RequestSpecification given() {
+        ScenarioState scenario = SCENARIO.get();
+        Policy policy = currentPolicy(scenario);
+        if (policy.recordsNatively()) {
+            return SerenityRest.given();
+        }
+        if (policy.mode() == Mode.NONE) {
+            SKIPPED.increment();
+            return RestAssured.given();
+        }
+        return RestAssured.given().filter(new PolicyFilter(policy, scenario.calls()));
+    }
+
+    /**
+     * Counts of calls recorded and left out by non-default policies.
+     */
+    public static Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("defaultPolicy", DEFAULT.toString());
+        stats.put("recorded", RECORDED.sum());
+        stats.put("skipped", SKIPPED.sum());
+        return stats;
+    }
+
+    private static Policy currentPolicy(ScenarioState scenario) {
+        Optional<Class<?>> stepClass = STACK.walk(frames -> frames
+                .<Class<?>>map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(c -> c.getName().startsWith(STEP_PACKAGE))
+                .findFirst());
+        return stepClass
+                .flatMap(c -> CLASS_POLICIES.computeIfAbsent(c, ReportRecording::classPolicy))
+                .orElse(scenario.policy());
+    }
+
+    private static Optional<Policy> classPolicy(Class<?> stepClass) {
+        String spec = TestConfig.get(PREFIX + ".class." + stepClass.getSimpleName(),
+                BUILT_IN_CLASS_POLICIES.get(stepClass.getSimpleName()));
+        return Optional.ofNullable(spec).map(Policy::parse);
+    }
+
+    /**
+     * Adds the calls its policy keeps to the report, on the calling thread.
+     */
+    private static final class PolicyFilter implements Filter {
+
+        private final Policy policy;
+        private final AtomicLong calls;
+
+        private PolicyFilter(Policy policy, AtomicLong calls) {
+            this.policy = policy;
+            this.calls = calls;
+        }
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            if (!policy.keeps(response.getStatusCode(), calls.incrementAndGet())) {
+                SKIPPED.increment();
+                return response;
+            }
+            RECORDED.increment();
+            Serenity.recordReportData()
+                    .withTitle(requestSpec.getMethod() + " " + requestSpec.getURI() + " → " + response.getStatusCode())
+                    .andContents("Request body: " + cap(requestBody(requestSpec)) +
+                            "\n\nResponse body: " + cap(response.asByteArray()));
+            return response;
+        }
+
+        private static byte[] requestBody(FilterableRequestSpecification requestSpec) {
+            Object body = requestSpec.getBody();
+            if (body == null) {
+                return new byte[0];
+            }
+            return body instanceof byte[] bytes ? bytes : String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+        }
+
+        private String cap(byte[] body) {
+            if (body.length == 0) {
+                return "(none)";
+            }
+            if (policy.bodyCap() <= 0 || body.length <= policy.bodyCap()) {
+                return new String(body, StandardCharsets.UTF_8);
+            }
+            return new String(body, 0, policy.bodyCap(), StandardCharsets.UTF_8) +
+                    "\n... (" + (body.length - policy.bodyCap()) + " more bytes)";
+        }
+    }
+}
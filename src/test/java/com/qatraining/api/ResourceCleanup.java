@@ -0,0 +1,220 @@
+package com.qatraining.api;
+
+import com.qatraining.hooks.AuthenticationManager;
+import com.qatraining.utils.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes what a {@link ResourceRegistry} tracked, as admin, with the admin account leased by
+ * the calling thread (callers that are not scenario threads release it themselves). API-created
+ * resources are deleted by ID with no listing call; plants registered by name (UI-created) are
+ * resolved with a single listing, only when there are any, read straight off the connection so
+ * the catalogue is never held in memory.
+ *
+ * Deletes run on virtual threads, at most cleanup.parallelism at a time, one kind after the other
+ * (sales before the plants they reference). A delete that fails with an I/O error, 409, 429 or 5xx
+ * is retried up to cleanup.retries times with a growing back-off. Outcomes are counted into a
+ * {@link Summary} rather than logged one by one.
+ */
+public final class ResourceCleanup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceCleanup.class);
+
+    private static final String CLEANUP_ROLE = "admin";
+
+    private static final int PARALLELISM = Math.max(1, TestConfig.getInt("cleanup.parallelism", 8));
+    private static final int RETRIES = Math.max(0, TestConfig.getInt("cleanup.retries", 2));
+    private static final long RETRY_BACKOFF_MS = TestConfig.getLong("cleanup.retry.backoff.ms", 250);
+
+    /** Failure reasons kept in a summary; the rest are only counted. */
+    private static final int MAX_FAILURE_SAMPLES = 10;
+
+    /**
+     * Outcome of one teardown.
+     */
+    public record Summary(int deleted, int alreadyGone, int failed, int retries, long millis, List<String> failures) {
+
+        public int total() {
+            return deleted + alreadyGone + failed;
+        }
+
+        public String describe() {
+            StringBuilder text = new StringBuilder()
+                    .append("Deleted: ").append(deleted)
+                    .append("\nAlready gone (404): ").append(alreadyGone)
+                    .append("\nFailed: ").append(failed)
+                    .append("\nRetries: ").append(retries)
+                    .append("\nTime: ").append(millis).append(" ms");
+            for (String failure : failures) {
+                text.append("\n  ").append(failure);
+            }
+            if (failed > failures.size()) {
+                text.append("\n  ... and ").append(failed - failures.size()).append(" more");
+            }
+            return text.toString();
+        }
+    }
+
+    private static final class Tally {
+        final AtomicInteger deleted = new AtomicInteger();
+        final AtomicInteger alreadyGone = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger retries = new AtomicInteger();
+        final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+        void fail(String reason) {
+            if (failed.incrementAndGet() <= MAX_FAILURE_SAMPLES) {
+                failures.add(reason);
+            }
+        }
+    }
+
+    private ResourceCleanup() {
+    }
+
+    public static Summary deleteAll(String baseUrl, ResourceRegistry registry) {
+        long start = System.nanoTime();
+        // Resolve the token here, on the caller's thread, which owns the admin lease; the delete
+        // workers only carry it
+        String token = AuthenticationManager.getToken(CLEANUP_ROLE);
+        RequestSpecification adminSpec = ApiRequestSpecs.withToken(baseUrl, token);
+
+        List<ResourceRegistry.Resource> resources = new ArrayList<>(registry.drain());
+        resources.addAll(resolvePlantNames(baseUrl, token, registry.drainPlantNames()));
+
+        Map<ResourceRegistry.Kind, List<String>> idsByKind = new EnumMap<>(ResourceRegistry.Kind.class);
+        for (ResourceRegistry.Resource resource : resources) {
+            idsByKind.computeIfAbsent(resource.kind(), k -> new ArrayList<>()).add(resource.id());
+        }
+
+        Tally tally = new Tally();
+        for (Map.Entry<ResourceRegistry.Kind, List<String>> kind : idsByKind.entrySet()) {
+            deleteConcurrently(adminSpec, kind.getKey(), kind.getValue(), tally);
+        }
+
+        Summary summary = new Summary(tally.deleted.get(), tally.alreadyGone.get(), tally.failed.get(),
+                tally.retries.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                List.copyOf(tally.failures));
+        if (summary.failed() > 0) {
+            LOGGER.warn("Cleanup left {} of {} resource(s) behind: {}", summary.failed(), summary.total(),
+                    summary.failures());
+        }
+        return summary;
+    }
+
+    private static void deleteConcurrently(RequestSpecification adminSpec, ResourceRegistry.Kind kind,
+                                           List<String> ids, Tally tally) {
+        if (ids.size() == 1) {
+            delete(adminSpec, kind.path() + ids.get(0), tally);
+            return;
+        }
+        Semaphore permits = new Semaphore(PARALLELISM);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String id : ids) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        delete(adminSpec, kind.path() + id, tally);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private static void delete(RequestSpecification adminSpec, String path, Tally tally) {
+        for (int attempt = 0; ; attempt++) {
+            String reason;
+            try {
+                // Plain RestAssured: cleanup is not part of any step, so it stays out of the report
+                int status = RestAssured.given().spec(adminSpec).delete(path).getStatusCode();
+                if (status == 200 || status == 204) {
+                    tally.deleted.incrementAndGet();
+                    return;
+                }
+                if (status == 404) {
+                    tally.alreadyGone.incrementAndGet();
+                    return;
+                }
+                reason = "DELETE " + path + " returned HTTP " + status;
+                if (!retryable(status)) {
+                    tally.fail(reason);
+                    return;
+                }
+            } catch (Exception e) {
+                reason = "DELETE " + path + " failed: " + e.getMessage();
+            }
+            if (attempt >= RETRIES || !backOff(attempt)) {
+                tally.fail(reason);
+                return;
+            }
+            tally.retries.incrementAndGet();
+        }
+    }
+
+    private static boolean retryable(int status) {
+        return status == 409 || status == 429 || status >= 500;
+    }
+
+    private static boolean backOff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * (attempt + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<ResourceRegistry.Resource> resolvePlantNames(String baseUrl, String token, List<String> names) {
+        List<ResourceRegistry.Resource> plants = new ArrayList<>();
+        if (names.isEmpty()) {
+            return plants;
+        }
+        Set<String> wanted = new HashSet<>(names);
+        HttpResponse<InputStream> listing;
+        try {
+            listing = JdkHttpTransport.INSTANCE.openStream(baseUrl, "/api/plants", token);
+        } catch (IOException e) {
+            LOGGER.warn("Listing plants to resolve {} UI-created plant(s) failed: {}", names.size(), e.getMessage());
+            return plants;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return plants;
+        }
+        try (InputStream body = listing.body()) {
+            if (listing.statusCode() != 200) {
+                LOGGER.warn("Listing plants to resolve {} UI-created plant(s) returned HTTP {}", names.size(),
+                        listing.statusCode());
+                return plants;
+            }
+            for (String id : JsonStreams.selectIds(body, "id", "name", wanted::contains)) {
+                plants.add(new ResourceRegistry.Resource(ResourceRegistry.Kind.PLANT, id));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Reading the plant listing failed: {}", e.getMessage());
+        }
+        return plants;
+    }
+}
@@ -0,0 +1,126 @@
+package com.qatraining.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Records what a scenario creates so teardown can delete exactly that, without listing
+ * the catalogue. Steps register resources as soon as the API confirms them and forget
+ * them when the scenario deletes them itself.
+ *
+ * Each scenario has its own registry, bound to the thread running it by Hooks. Registration is
+ * thread-safe, so steps that fan requests out to other threads can register from there too.
+ * Plants created through the UI have no ID in hand, so they are registered by name and
+ * resolved at teardown.
+ */
+public final class ResourceRegistry {
+
+    /**
+     * Resource types and their REST paths, in the order teardown deletes them
+     * (sales reference plants, so they go first).
+     */
+    public enum Kind {
+        SALE("/api/sales/"),
+        PLANT("/api/plants/");
+
+        private final String path;
+
+        Kind(String path) {
+            this.path = path;
+        }
+
+        public String path() {
+            return path;
+        }
+    }
+
+    public record Resource(Kind kind, String id) {
+    }
+
+    private static final ThreadLocal<ResourceRegistry> CURRENT = ThreadLocal.withInitial(ResourceRegistry::new);
+
+    private final Deque<Resource> resources = new ConcurrentLinkedDeque<>();
+    private final Deque<String> plantNames = new ConcurrentLinkedDeque<>();
+
+    /**
+     * The registry of the scenario running on this thread.
+     */
+    public static ResourceRegistry current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a fresh registry to this thread for the scenario about to run.
+     */
+    public static void startScenario() {
+        CURRENT.set(new ResourceRegistry());
+    }
+
+    public void register(Kind kind, String id) {
+        if (id != null && !id.isBlank()) {
+            resources.push(new Resource(kind, id));
+        }
+    }
+
+    /**
+     * Register a plant created through the UI, identified only by its unique name.
+     */
+    public void registerPlantName(String name) {
+        if (name != null && !name.isBlank()) {
+            plantNames.push(name);
+        }
+    }
+
+    /**
+     * Stop tracking a resource the scenario deleted itself.
+     */
+    public void forget(Kind kind, String id) {
+        resources.remove(new Resource(kind, id));
+    }
+
+    public boolean isEmpty() {
+        return resources.isEmpty() && plantNames.isEmpty();
+    }
+
+    /**
+     * Move everything tracked here into {@code target}, leaving this registry empty.
+     */
+    public void transferTo(ResourceRegistry target) {
+        Resource resource;
+        while ((resource = resources.pollLast()) != null) {
+            target.resources.push(resource);
+        }
+        String name;
+        while ((name = plantNames.pollLast()) != null) {
+            target.plantNames.push(name);
+        }
+    }
+
+    /**
+     * Remove and return every tracked resource, sales first, each kind newest first.
+     */
+    public List<Resource> drain() {
+        List<Resource> drained = new ArrayList<>();
+        Resource resource;
+        while ((resource = resources.poll()) != null) {
+            drained.add(resource);
+        }
+        drained.sort((a, b) -> Integer.compare(a.kind().ordinal(), b.kind().ordinal()));
+        return drained;
+    }
+
+    /**
+     * Remove and return the names of plants created through the UI.
+     */
+    public List<String> drainPlantNames() {
+        List<String> names = new ArrayList<>();
+        String name;
+        while ((name = plantNames.poll()) != null) {
+            names.add(name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+}
@@ -0,0 +1,178 @@
+package com.qatraining.api;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import io.restassured.response.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only view of one API response, independent of the transport that produced it.
+ * The body is copied to a string once and parsed into a JSON tree on first lookup;
+ * every later lookup is served from that tree.
+ *
+ * Fields are addressed by name, with dots for nested objects ("category.id").
+ * Lookups never throw for a missing field or a non-JSON body: string lookups return null
+ * and numeric lookups return the caller's default.
+ */
+public final class ResponseView {
+
+    private final Response response;
+    private final byte[] bytes;
+    private final int statusCode;
+    private final String statusLine;
+    private String body;
+    private JsonElement root;
+    private boolean parsed;
+
+    private ResponseView(Response response, byte[] bytes, int statusCode, String statusLine) {
+        this.response = response;
+        this.bytes = bytes;
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+    }
+
+    /**
+     * View of a RestAssured/SerenityRest response.
+     */
+    public static ResponseView of(Response response) {
+        return new ResponseView(response, null, response.getStatusCode(), response.getStatusLine());
+    }
+
+    /**
+     * View of a response received by another transport.
+     */
+    public static ResponseView of(int statusCode, String statusLine, byte[] body) {
+        return new ResponseView(null, body == null ? new byte[0] : body, statusCode, statusLine);
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public String statusLine() {
+        return statusLine;
+    }
+
+    /**
+     * @return the body as text, or "" if there was none
+     */
+    public String body() {
+        if (body == null) {
+            if (response != null) {
+                body = response.getBody() != null ? response.getBody().asString() : "";
+            } else {
+                body = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return body;
+    }
+
+    /**
+     * @return the body as a stream, for token-level processing with {@link JsonStreams}
+     */
+    public InputStream bodyStream() {
+        if (response != null) {
+            return response.asInputStream();
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * @return the parsed body, or null if it is empty or not JSON
+     */
+    public JsonElement json() {
+        if (!parsed) {
+            parsed = true;
+            try {
+                root = body().isEmpty() ? null : JsonParser.parseString(body());
+            } catch (JsonSyntaxException e) {
+                root = null;
+            }
+        }
+        return root;
+    }
+
+    public boolean has(String path) {
+        JsonElement element = find(path);
+        return element != null && !element.isJsonNull();
+    }
+
+    /**
+     * @return the field as text (objects and arrays as JSON), or null if absent or null
+     */
+    public String getString(String path) {
+        JsonElement element = find(path);
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+        return element.isJsonPrimitive() ? element.getAsString() : element.toString();
+    }
+
+    /**
+     * @return the numeric field truncated to an int, or {@code missing} if absent or not a number
+     */
+    public int getInt(String path, int missing) {
+        JsonPrimitive number = number(path);
+        return number == null ? missing : number.getAsNumber().intValue();
+    }
+
+    /**
+     * @return the numeric field as a long, or {@code missing} if absent or not a number
+     */
+    public long getLong(String path, long missing) {
+        JsonPrimitive number = number(path);
+        return number == null ? missing : number.getAsNumber().longValue();
+    }
+
+    /**
+     * @return the numeric field as a double, or {@code missing} if absent or not a number
+     */
+    public double getDouble(String path, double missing) {
+        JsonPrimitive number = number(path);
+        return number == null ? missing : number.getAsNumber().doubleValue();
+    }
+
+    private JsonPrimitive number(String path) {
+        JsonElement element = find(path);
+        if (element == null || !element.isJsonPrimitive()) {
+            return null;
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isNumber()) {
+            return primitive;
+        }
+        if (primitive.isString()) {
+            try {
+                Double.parseDouble(primitive.getAsString());
+                return primitive;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private JsonElement find(String path) {
+        JsonElement current = json();
+        int start = 0;
+        while (current != null) {
+            if (!current.isJsonObject()) {
+                return null;
+            }
+            int dot = path.indexOf('.', start);
+            String name = dot < 0 ? path.substring(start) : path.substring(start, dot);
+            current = ((JsonObject) current).get(name);
+            if (dot < 0) {
+                return current;
+            }
+            start = dot + 1;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.qatraining.api;
+
+import com.qatraining.utils.ScenarioWatchdog;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Default transport: RestAssured with the shared per-role request spec and the global filters.
+ * Calls are recorded in the Serenity report as {@link ReportRecording} decides (by default
+ * SerenityRest records every call).
+ */
+final class RestAssuredTransport implements ApiTransport {
+
+    static final RestAssuredTransport INSTANCE = new RestAssuredTransport();
+
+    private RestAssuredTransport() {
+    }
+
+    @Override
+    public ResponseView send(String baseUrl, String role, String method, String path, Object body) {
+        ScenarioWatchdog.checkDeadline();
+        RequestSpecification request = ReportRecording.given().spec(ApiRequestSpecs.forRole(baseUrl, role));
+        if (body != null) {
+            request.body(body);
+        }
+        return ResponseView.of(request.when().request(method, path));
+    }
+}
@@ -0,0 +1,13 @@
+package com.qatraining.api;
+
+/**
+ * The transport chosen for the scenario running on a thread, when its runner picks one;
+ * see {@link ApiTransport#selectForCurrentScenario}.
+ */
+final class TransportSelection {
+
+    static final ThreadLocal<ApiTransport> SCENARIO = new ThreadLocal<>();
+
+    private TransportSelection() {
+    }
+}
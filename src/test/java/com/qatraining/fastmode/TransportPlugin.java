@@ -0,0 +1,49 @@
+package com.qatraining.fastmode;
+
+import com.qatraining.api.ApiTransport;
+import com.qatraining.utils.MetricsWriter;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Cucumber plugin that selects the API transport for the scenarios of the runner that lists it,
+ * e.g. {@code com.qatraining.fastmode.TransportPlugin:jdk} in the runner's cucumber.plugin
+ * parameter. The choice is made per scenario thread when a scenario starts and dropped when it
+ * finishes, so other runners and scenarios in the same JVM are unaffected. Writes the transport
+ * metrics when the run ends.
+ */
+public class TransportPlugin implements ConcurrentEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransportPlugin.class);
+
+    private final String transport;
+
+    public TransportPlugin(String transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        // Concurrent listeners get scenario events on the thread running the scenario
+        publisher.registerHandlerFor(TestRunStarted.class,
+                event -> LOGGER.info("API scenarios of this runner will use the '{}' transport", transport));
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> ApiTransport.selectForCurrentScenario(transport));
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> ApiTransport.selectForCurrentScenario(null));
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeMetrics());
+    }
+
+    private void writeMetrics() {
+        Map<String, Object> stats = ApiTransport.named(transport).stats();
+        if (!stats.isEmpty()) {
+            MetricsWriter.write("api-transport", stats);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.qatraining.hooks;
+
+import com.qatraining.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of accounts for one role, so parallel worker threads do not share a single
+ * server-side session. Each thread leases its own account for the duration of a
+ * scenario; {@link #releaseCurrentThread()} returns it.
+ *
+ * The role's primary account (e.g. admin.username / admin.password) is always in the pool.
+ * Extra accounts are listed as username:password pairs, e.g.
+ * {@code admin.pool=admin2:admin123,admin3:admin123}.
+ */
+public final class AccountPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountPool.class);
+
+    private static final Map<String, String> ROLE_CONFIG_PREFIX = Map.of(
+            "admin", "admin",
+            "testuser", "test.user");
+
+    private static final Map<String, AccountPool> POOLS = new ConcurrentHashMap<>();
+
+    // Accounts leased by the current thread, per role
+    private static final ThreadLocal<Map<String, Lease>> LEASES = ThreadLocal.withInitial(HashMap::new);
+
+    private static final long LEASE_TIMEOUT_MILLIS =
+            TimeUnit.SECONDS.toMillis(TestConfig.getLong("auth.pool.lease.timeout.seconds", 30));
+
+    /**
+     * One account of a role. The primary account caches under the role name itself.
+     */
+    public record Account(String role, int index, String username, String password) {
+        public String cacheKey() {
+            return index == 0 ? role : role + "#" + index;
+        }
+    }
+
+    private record Lease(Account account, boolean shared, long leasedAtNanos) {
+    }
+
+    private final String role;
+    private final List<Account> accounts;
+    private final BlockingQueue<Account> available;
+    private final long createdAtNanos = System.nanoTime();
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong sharedLeases = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+    private final AtomicInteger sharedCursor = new AtomicInteger();
+
+    private AccountPool(String role, List<Account> accounts) {
+        this.role = role;
+        this.accounts = Collections.unmodifiableList(accounts);
+        this.available = new LinkedBlockingQueue<>(accounts);
+    }
+
+    public static AccountPool forRole(String role) {
+        return POOLS.computeIfAbsent(role, AccountPool::fromConfig);
+    }
+
+    private static AccountPool fromConfig(String role) {
+        String prefix = ROLE_CONFIG_PREFIX.get(role);
+        if (prefix == null) {
+            throw new IllegalArgumentException("No credentials configured for role: " + role);
+        }
+        List<Account> accounts = new ArrayList<>();
+        accounts.add(new Account(role, 0,
+                TestConfig.get(prefix + ".username", role),
+                TestConfig.get(prefix + ".password", "")));
+        for (String entry : TestConfig.get(prefix + ".pool", "").split(",")) {
+            int colon = entry.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            accounts.add(new Account(role, accounts.size(),
+                    entry.substring(0, colon).trim(), entry.substring(colon + 1).trim()));
+        }
+        LOGGER.info("Account pool for role {} has {} account(s)", role, accounts.size());
+        return new AccountPool(role, accounts);
+    }
+
+    public List<Account> accounts() {
+        return accounts;
+    }
+
+    /**
+     * Lease an account for the current thread. A thread keeps the same account until it
+     * releases it. If every account is leased, waits up to auth.pool.lease.timeout.seconds
+     * and then shares the least recently shared account rather than failing.
+     */
+    public Account lease() {
+        Lease current = LEASES.get().get(role);
+        if (current != null) {
+            return current.account();
+        }
+        if (accounts.size() == 1) {
+            // Nothing to arbitrate; everyone uses the primary account
+            return record(new Lease(accounts.get(0), true, System.nanoTime()));
+        }
+
+        Account account = available.poll();
+        boolean shared = false;
+        if (account == null) {
+            waits.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                account = available.poll(LEASE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            waitNanos.addAndGet(System.nanoTime() - start);
+            if (account == null) {
+                shared = true;
+                sharedLeases.incrementAndGet();
+                account = accounts.get(Math.floorMod(sharedCursor.getAndIncrement(), accounts.size()));
+                LOGGER.warn("All {} {} accounts are leased; sharing {}", accounts.size(), role, account.username());
+            }
+        }
+        return record(new Lease(account, shared, System.nanoTime()));
+    }
+
+    private Account record(Lease lease) {
+        LEASES.get().put(role, lease);
+        leases.incrementAndGet();
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        return lease.account();
+    }
+
+    private void release(Lease lease) {
+        inUse.decrementAndGet();
+        busyNanos.addAndGet(System.nanoTime() - lease.leasedAtNanos());
+        if (!lease.shared()) {
+            available.offer(lease.account());
+        }
+    }
+
+    /**
+     * Return every account leased by the current thread to its pool.
+     */
+    public static void releaseCurrentThread() {
+        Map<String, Lease> leased = LEASES.get();
+        leased.forEach((role, lease) -> POOLS.get(role).release(lease));
+        leased.clear();
+    }
+
+    /**
+     * Utilization figures for reporting.
+     */
+    public Map<String, Object> stats() {
+        long elapsedNanos = Math.max(1, System.nanoTime() - createdAtNanos);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("accounts", accounts.size());
+        stats.put("leases", leases.get());
+        stats.put("inUse", inUse.get());
+        stats.put("peakInUse", peakInUse.get());
+        stats.put("waits", waits.get());
+        stats.put("waitMillis", TimeUnit.NANOSECONDS.toMillis(waitNanos.get()));
+        stats.put("sharedLeases", sharedLeases.get());
+        stats.put("utilization", (double) busyNanos.get() / ((double) elapsedNanos * accounts.size()));
+        return stats;
+    }
+
+    /**
+     * Utilization of every pool created so far, keyed by role.
+     */
+    public static Map<String, Map<String, Object>> allStats() {
+        Map<String, Map<String, Object>> all = new LinkedHashMap<>();
+        POOLS.forEach((role, pool) -> all.put(role, pool.stats()));
+        return all;
+    }
+}
@@ -0,0 +1,153 @@
+package com.qatraining.hooks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings for everything AuthenticationManager does, so the share of suite
+ * time spent on authentication is visible. Totals cover the whole JVM; a per-thread
+ * tally covers the scenario currently running on that thread.
+ */
+public final class AuthMetrics {
+
+    private static final Map<String, LongAdder> TOKEN_HITS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> TOKEN_MISSES = new ConcurrentHashMap<>();
+    private static final Map<String, List<Long>> LOGIN_MILLIS = new ConcurrentHashMap<>();
+    private static final LongAdder LOGIN_FAILURES = new LongAdder();
+    private static final LongAdder REFRESHES = new LongAdder();
+    private static final LongAdder COOKIE_INJECTIONS = new LongAdder();
+    private static final LongAdder COOKIE_INJECTION_NANOS = new LongAdder();
+
+    private static final ThreadLocal<ScenarioTally> SCENARIO = ThreadLocal.withInitial(ScenarioTally::new);
+
+    private static final class ScenarioTally {
+        long hits;
+        long misses;
+        long logins;
+        long authNanos;
+    }
+
+    private AuthMetrics() {
+    }
+
+    static void tokenHit(String cacheKey) {
+        TOKEN_HITS.computeIfAbsent(roleOf(cacheKey), k -> new LongAdder()).increment();
+        SCENARIO.get().hits++;
+    }
+
+    static void tokenMiss(String cacheKey) {
+        TOKEN_MISSES.computeIfAbsent(roleOf(cacheKey), k -> new LongAdder()).increment();
+        SCENARIO.get().misses++;
+    }
+
+    /**
+     * Record one login round-trip.
+     *
+     * @param kind "api" for token logins, "ui" for session logins
+     */
+    static void login(String kind, long nanos, boolean success) {
+        LOGIN_MILLIS.computeIfAbsent(kind, k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(TimeUnit.NANOSECONDS.toMillis(nanos));
+        if (!success) {
+            LOGIN_FAILURES.increment();
+        }
+        ScenarioTally tally = SCENARIO.get();
+        tally.logins++;
+        tally.authNanos += nanos;
+    }
+
+    static void refresh() {
+        REFRESHES.increment();
+    }
+
+    static void cookieInjection(long nanos) {
+        COOKIE_INJECTIONS.increment();
+        COOKIE_INJECTION_NANOS.add(nanos);
+        SCENARIO.get().authNanos += nanos;
+    }
+
+    /**
+     * Reset the current thread's per-scenario tally.
+     */
+    public static void startScenario() {
+        SCENARIO.set(new ScenarioTally());
+    }
+
+    /**
+     * Summary of authentication work done by the current thread since {@link #startScenario()},
+     * or null if there was none.
+     */
+    public static String scenarioSummary() {
+        ScenarioTally tally = SCENARIO.get();
+        if (tally.hits + tally.misses + tally.logins == 0 && tally.authNanos == 0) {
+            return null;
+        }
+        return "Token cache hits: " + tally.hits +
+                "\nToken cache misses: " + tally.misses +
+                "\nLogins: " + tally.logins +
+                "\nTime in authentication: " + TimeUnit.NANOSECONDS.toMillis(tally.authNanos) + " ms";
+    }
+
+    /**
+     * Snapshot of all counters for reporting.
+     */
+    public static Map<String, Object> snapshot() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("tokenHits", counts(TOKEN_HITS));
+        metrics.put("tokenMisses", counts(TOKEN_MISSES));
+        Map<String, Object> latency = new LinkedHashMap<>();
+        LOGIN_MILLIS.forEach((kind, samples) -> latency.put(kind, distribution(samples)));
+        metrics.put("loginLatencyMillis", latency);
+        metrics.put("loginFailures", LOGIN_FAILURES.sum());
+        metrics.put("loginsAvoided", AuthenticationManager.getLoginsAvoided());
+        metrics.put("refreshes", REFRESHES.sum());
+        long injections = COOKIE_INJECTIONS.sum();
+        long injectionMillis = TimeUnit.NANOSECONDS.toMillis(COOKIE_INJECTION_NANOS.sum());
+        metrics.put("cookieInjections", injections);
+        metrics.put("cookieInjectionMillisTotal", injectionMillis);
+        metrics.put("cookieInjectionMillisAvg", injections == 0 ? 0 : (double) injectionMillis / injections);
+        metrics.put("accountPools", AccountPool.allStats());
+        return metrics;
+    }
+
+    private static Map<String, Long> counts(Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counters.forEach((role, adder) -> counts.put(role, adder.sum()));
+        return counts;
+    }
+
+    private static Map<String, Object> distribution(List<Long> samples) {
+        List<Long> sorted;
+        synchronized (samples) {
+            sorted = new ArrayList<>(samples);
+        }
+        Collections.sort(sorted);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", sorted.size());
+        if (!sorted.isEmpty()) {
+            stats.put("min", sorted.get(0));
+            stats.put("p50", percentile(sorted, 50));
+            stats.put("p90", percentile(sorted, 90));
+            stats.put("p99", percentile(sorted, 99));
+            stats.put("max", sorted.get(sorted.size() - 1));
+            stats.put("total", sorted.stream().mapToLong(Long::longValue).sum());
+        }
+        return stats;
+    }
+
+    private static long percentile(List<Long> sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static String roleOf(String cacheKey) {
+        int hash = cacheKey.indexOf('#');
+        return hash < 0 ? cacheKey : cacheKey.substring(0, hash);
+    }
+}
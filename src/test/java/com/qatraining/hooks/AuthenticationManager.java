@@ -8,10 +8,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.qatraining.pages.LoginPage;
 
-import java.io.IOException;
-import java.io.InputStream;
+import com.qatraining.utils.TestConfig;
+
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Centralized authentication manager for UI and API tests.
@@ -20,48 +31,68 @@ import java.util.concurrent.ConcurrentHashMap;
 public class AuthenticationManager {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticationManager.class);
-    private static final Properties CONFIG = loadConfig();
     
     // Cache for UI session cookies - one per role
     private static final Map<String, Set<Cookie>> UI_SESSIONS = new ConcurrentHashMap<>();
     
-    // Cache for API authentication tokens - one per role
-    private static final Map<String, String> API_TOKENS = new ConcurrentHashMap<>();
+    // Cache for API authentication tokens (with decoded JWT expiry) - one per role
+    private static final Map<String, CachedToken> API_TOKENS = new ConcurrentHashMap<>();
+    
+    // Credentials used to obtain each role's token, needed for background refresh
+    private static final Map<String, Credentials> ROLE_CREDENTIALS = new ConcurrentHashMap<>();
+    
+    // Scheduled proactive refresh per role
+    private static final Map<String, ScheduledFuture<?>> REFRESH_TASKS = new ConcurrentHashMap<>();
+    
+    // Which role (cache key) each issued token belongs to, for invalidation on 401
+    private static final Map<String, String> TOKEN_OWNERS = new ConcurrentHashMap<>();
+    
+    // Logins currently in flight per role; concurrent callers share the same future
+    private static final Map<String, CompletableFuture<CachedToken>> IN_FLIGHT_LOGINS = new ConcurrentHashMap<>();
+    
+    // Number of callers that joined an in-flight login instead of starting their own
+    private static final LongAdder LOGINS_AVOIDED = new LongAdder();
     
     // Track if login has been performed for a role
     private static final Map<String, Boolean> LOGIN_COMPLETED = new ConcurrentHashMap<>();
     
-    private static Properties loadConfig() {
-        Properties p = new Properties();
-        try (InputStream in = AuthenticationManager.class.getResourceAsStream("/test-config.properties")) {
-            if (in != null) p.load(in);
-        } catch (IOException ignored) {
-        }
-        return p;
+    // Tokens are refreshed in the background this long before they expire
+    private static final Duration REFRESH_AHEAD = Duration.ofSeconds(TestConfig.getLong("auth.token.refresh.ahead.seconds", 60));
+    
+    // A cached token is only handed out if it stays valid at least this long
+    private static final Duration MIN_VALIDITY = Duration.ofSeconds(TestConfig.getLong("auth.token.min.validity.seconds", 10));
+    
+    private static final ScheduledExecutorService REFRESHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "auth-token-refresher");
+        t.setDaemon(true);
+        return t;
+    });
+    
+    private record Credentials(String username, String password) {
     }
     
     public static String getBaseUrl() {
-        return CONFIG.getProperty("base.url", "http://localhost:8080");
+        return TestConfig.get("base.url", "http://localhost:8080");
     }
     
     public static String getApiBaseUrl() {
-        return CONFIG.getProperty("api.base.url", "http://localhost:8080/api");
+        return TestConfig.get("api.base.url", "http://localhost:8080/api");
     }
     
     public static String getAdminUsername() {
-        return CONFIG.getProperty("admin.username", "admin");
+        return TestConfig.get("admin.username", "admin");
     }
     
     public static String getAdminPassword() {
-        return CONFIG.getProperty("admin.password", "admin123");
+        return TestConfig.get("admin.password", "admin123");
     }
     
     public static String getTestUsername() {
-        return CONFIG.getProperty("test.user.username", "testuser");
+        return TestConfig.get("test.user.username", "testuser");
     }
     
     public static String getTestPassword() {
-        return CONFIG.getProperty("test.user.password", "password123");
+        return TestConfig.get("test.user.password", "password123");
     }
     
     /**
@@ -69,7 +100,7 @@ public class AuthenticationManager {
      * Token is cached and reused across all tests.
      */
     public static String getAdminToken() {
-        return getToken("admin", getAdminUsername(), getAdminPassword());
+        return getToken("admin");
     }
     
     /**
@@ -77,28 +108,190 @@ public class AuthenticationManager {
      * Token is cached and reused across all tests.
      */
     public static String getTestUserToken() {
-        return getToken("testuser", getTestUsername(), getTestPassword());
+        return getToken("testuser");
+    }
+    
+    /**
+     * Roles whose credentials are defined in test-config.properties.
+     */
+    public static List<String> getConfiguredRoles() {
+        return List.of("admin", "testuser");
+    }
+    
+    /**
+     * Get or create API token for a configured role ("admin" or "testuser").
+     * The token belongs to the account the current thread leased from the role's pool.
+     */
+    public static String getToken(String role) {
+        AccountPool.Account account = AccountPool.forRole(role).lease();
+        return getToken(account.cacheKey(), account.username(), account.password());
+    }
+    
+    /**
+     * Authenticate one pooled account ahead of time: obtains its API token and,
+     * when sessions are bootstrapped over HTTP, its UI session cookies.
+     * Safe to call from any thread; no browser is needed.
+     */
+    public static void prewarm(AccountPool.Account account) {
+        String key = account.cacheKey();
+        getToken(key, account.username(), account.password());
+        if (!UiSessionBootstrap.isEnabled() || hasActiveSession(key)) {
+            return;
+        }
+        Supplier<Set<Cookie>> login = () -> timedUiLogin(
+                () -> UiSessionBootstrap.login(getBaseUrl(), account.username(), account.password()));
+        Set<Cookie> cookies = PersistentAuthCache.isEnabled()
+                ? PersistentAuthCache.loadOrLoginCookies(key, login)
+                : login.get();
+        if (cookies != null && !cookies.isEmpty()) {
+            UI_SESSIONS.put(key, cookies);
+            LOGIN_COMPLETED.put(key, true);
+        }
     }
     
     /**
      * Get or create API token for a specific role.
+     * A cached token is returned only while it has at least the minimum validity left;
+     * otherwise a fresh token is obtained before returning.
      */
     public static String getToken(String role, String username, String password) {
-        // Return cached token if available
-        if (API_TOKENS.containsKey(role)) {
-            LOGGER.info("Using cached API token for role: {}", role);
-            return API_TOKENS.get(role);
+        ROLE_CREDENTIALS.putIfAbsent(role, new Credentials(username, password));
+        
+        // Fast path: cached token that is not about to expire
+        CachedToken cached = API_TOKENS.get(role);
+        if (cached != null && cached.isUsableAt(Instant.now(), MIN_VALIDITY)) {
+            LOGGER.debug("Using cached API token for role: {}", role);
+            AuthMetrics.tokenHit(role);
+            return cached.token();
         }
         
-        LOGGER.info("Authenticating via API for role: {}", role);
-        String token = authenticateViaApi(username, password);
+        AuthMetrics.tokenMiss(role);
+        if (cached != null) {
+            LOGGER.info("Cached API token for role {} expires at {}, re-authenticating", role, cached.expiresAt());
+        }
+        
+        CachedToken fresh = loginOnce(role, username, password, false);
+        return fresh != null ? fresh.token() : null;
+    }
+    
+    /**
+     * Single-flight login: only one login per role is in flight at a time and
+     * every other caller waits on the same future.
+     *
+     * @param force log in even if a usable token is cached (used by background refresh)
+     */
+    private static CachedToken loginOnce(String role, String username, String password, boolean force) {
+        CompletableFuture<CachedToken> mine = new CompletableFuture<>();
+        CompletableFuture<CachedToken> inFlight = IN_FLIGHT_LOGINS.putIfAbsent(role, mine);
+        if (inFlight != null) {
+            LOGINS_AVOIDED.increment();
+            LOGGER.debug("Joining in-flight login for role: {}", role);
+            return inFlight.join();
+        }
         
-        if (token != null && !token.isEmpty()) {
-            API_TOKENS.put(role, token);
-            LOGGER.info("Cached new API token for role: {}", role);
+        try {
+            // Another caller may have finished a login between our cache check and now
+            CachedToken cached = API_TOKENS.get(role);
+            if (!force && cached != null && cached.isUsableAt(Instant.now(), MIN_VALIDITY)) {
+                mine.complete(cached);
+                return cached;
+            }
+            // A forced refresh only accepts a shared token that another fork has already refreshed
+            Duration required = force ? REFRESH_AHEAD.plus(MIN_VALIDITY) : MIN_VALIDITY;
+            CachedToken fresh = login(role, username, password, t -> t.isUsableAt(Instant.now(), required));
+            mine.complete(fresh);
+            return fresh;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            IN_FLIGHT_LOGINS.remove(role, mine);
+        }
+    }
+    
+    /**
+     * Replace a token the server rejected with a fresh one.
+     * The cached entry is only invalidated if it still holds the rejected token, so when
+     * several threads hit a 401 at once only one new login happens (single-flight).
+     *
+     * @return a fresh token for the same role, or null if the token is not one we issued
+     */
+    public static String refreshRejectedToken(String rejectedToken) {
+        String role = TOKEN_OWNERS.get(rejectedToken);
+        Credentials credentials = role != null ? ROLE_CREDENTIALS.get(role) : null;
+        if (credentials == null) {
+            return null;
+        }
+        CachedToken cached = API_TOKENS.get(role);
+        if (cached != null && cached.token().equals(rejectedToken) && API_TOKENS.remove(role, cached)) {
+            LOGGER.info("Server rejected cached API token for role: {}; invalidating", role);
+            PersistentAuthCache.evictToken(role, rejectedToken);
+        }
+        return getToken(role, credentials.username(), credentials.password());
+    }
+    
+    /**
+     * Log in, cache the resulting token and schedule its proactive refresh.
+     * With the persistent cache enabled, a token written by another fork is reused
+     * if {@code reusable} accepts it.
+     */
+    private static CachedToken login(String role, String username, String password, Predicate<CachedToken> reusable) {
+        CachedToken fresh = PersistentAuthCache.isEnabled()
+                ? PersistentAuthCache.loadOrLogin(role, reusable, () -> loginViaApi(role, username, password))
+                : loginViaApi(role, username, password);
+        if (fresh == null) {
+            return null;
         }
         
-        return token;
+        API_TOKENS.put(role, fresh);
+        TOKEN_OWNERS.put(fresh.token(), role);
+        scheduleRefresh(role, fresh);
+        LOGGER.info("Cached new API token for role: {} (expires: {})", role,
+                fresh.expiresAt() != null ? fresh.expiresAt() : "never");
+        return fresh;
+    }
+    
+    private static CachedToken loginViaApi(String role, String username, String password) {
+        LOGGER.info("Authenticating via API for role: {}", role);
+        long start = System.nanoTime();
+        String token = authenticateViaApi(username, password);
+        AuthMetrics.login("api", System.nanoTime() - start, token != null && !token.isEmpty());
+        return (token == null || token.isEmpty()) ? null : CachedToken.of(token);
+    }
+    
+    /**
+     * Schedule a background refresh shortly before the token expires.
+     * Tokens without an expiry are never refreshed.
+     */
+    private static void scheduleRefresh(String role, CachedToken token) {
+        if (token.expiresAt() == null) {
+            return;
+        }
+        long remainingMillis = Duration.between(Instant.now(), token.expiresAt()).toMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        // Short-lived tokens are refreshed half-way through instead of immediately
+        long delayMillis = Math.max(remainingMillis - REFRESH_AHEAD.toMillis(), remainingMillis / 2);
+        ScheduledFuture<?> task = REFRESHER.schedule(() -> refreshInBackground(role),
+                delayMillis, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = REFRESH_TASKS.put(role, task);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+    
+    private static void refreshInBackground(String role) {
+        Credentials credentials = ROLE_CREDENTIALS.get(role);
+        if (credentials == null || !API_TOKENS.containsKey(role)) {
+            // Session was cleared since the refresh was scheduled
+            return;
+        }
+        LOGGER.info("Proactively refreshing API token for role: {}", role);
+        AuthMetrics.refresh();
+        if (loginOnce(role, credentials.username(), credentials.password(), true) == null) {
+            LOGGER.warn("Background token refresh failed for role: {}; will re-authenticate on next use", role);
+        }
     }
     
     /**
@@ -133,7 +326,7 @@ public class AuthenticationManager {
      * Only performs login if not already cached.
      */
     public static void loginAsAdmin(WebDriver driver) {
-        loginAsUser(driver, "admin", getAdminUsername(), getAdminPassword());
+        loginAsRole(driver, "admin");
     }
     
     /**
@@ -141,12 +334,21 @@ public class AuthenticationManager {
      * Only performs login if not already cached.
      */
     public static void loginAsTestUser(WebDriver driver) {
-        loginAsUser(driver, "testuser", getTestUsername(), getTestPassword());
+        loginAsRole(driver, "testuser");
+    }
+    
+    /**
+     * Perform UI login with the account the current thread leased from the role's pool.
+     */
+    public static void loginAsRole(WebDriver driver, String role) {
+        AccountPool.Account account = AccountPool.forRole(role).lease();
+        loginAsUser(driver, account.cacheKey(), account.username(), account.password());
     }
     
     /**
      * Perform UI login and cache session cookies for a specific role.
-     * Only performs login if not already cached.
+     * Only performs login if not already cached. Unless auth.ui.bootstrap=form,
+     * the session is obtained over HTTP and injected, so the login page is never rendered.
      */
     public static void loginAsUser(WebDriver driver, String role, String username, String password) {
         // If we already have a cached session and login is complete, reuse it
@@ -156,6 +358,55 @@ public class AuthenticationManager {
             return;
         }
         
+        // Session cookies come from an HTTP form post when possible; the login form is the fallback
+        AtomicBoolean browserLoggedIn = new AtomicBoolean(false);
+        Supplier<Set<Cookie>> login = () -> {
+            if (UiSessionBootstrap.isEnabled()) {
+                Set<Cookie> cookies = timedUiLogin(() -> UiSessionBootstrap.login(getBaseUrl(), username, password));
+                if (cookies != null) {
+                    return cookies;
+                }
+                LOGGER.warn("HTTP session bootstrap failed for role: {}, falling back to form login", role);
+            }
+            browserLoggedIn.set(true);
+            return timedUiLogin(() -> performUiLogin(driver, role, username, password));
+        };
+        
+        Set<Cookie> cookies = PersistentAuthCache.isEnabled()
+                ? PersistentAuthCache.loadOrLoginCookies(role, login)
+                : login.get();
+        if ((cookies == null || cookies.isEmpty()) && !browserLoggedIn.get()) {
+            // No session from the bootstrap or the shared cache: log in through the form instead
+            LOGGER.warn("No UI session cookies obtained for role: {}, falling back to form login", role);
+            browserLoggedIn.set(true);
+            cookies = timedUiLogin(() -> performUiLogin(driver, role, username, password));
+        }
+        if (cookies == null || cookies.isEmpty()) {
+            throw new IllegalStateException("UI login for role " + role + " (" + username
+                    + ") produced no session cookies");
+        }
+        UI_SESSIONS.put(role, cookies);
+        LOGIN_COMPLETED.put(role, true);
+        if (!browserLoggedIn.get()) {
+            injectSessionCookies(driver, role);
+        }
+    }
+    
+    private static Set<Cookie> timedUiLogin(Supplier<Set<Cookie>> login) {
+        long start = System.nanoTime();
+        Set<Cookie> cookies = null;
+        try {
+            cookies = login.get();
+            return cookies;
+        } finally {
+            AuthMetrics.login("ui", System.nanoTime() - start, cookies != null && !cookies.isEmpty());
+        }
+    }
+    
+    /**
+     * Drive the login form and return the resulting session cookies.
+     */
+    private static Set<Cookie> performUiLogin(WebDriver driver, String role, String username, String password) {
         LOGGER.info("Performing UI login for role: {} with username: {}", role, username);
         
         try {
@@ -171,12 +422,11 @@ public class AuthenticationManager {
             new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(10))
                 .until(d -> !d.getCurrentUrl().contains("login"));
             
-            // Collect and cache cookies
+            // Collect cookies for caching
             Set<Cookie> cookies = driver.manage().getCookies();
-            UI_SESSIONS.put(role, cookies);
-            LOGIN_COMPLETED.put(role, true);
             
             LOGGER.info("Successfully logged in and cached session for role: {}", role);
+            return cookies;
         } catch (Exception e) {
             LOGGER.error("Failed to perform UI login for role: {} - Error: {}", role, e.getMessage(), e);
             throw e;
@@ -185,6 +435,7 @@ public class AuthenticationManager {
     
     /**
      * Inject cached session cookies into the driver.
+     * Does not load an application page; callers navigate to where the scenario starts.
      */
     public static void injectSessionCookies(WebDriver driver, String role) {
         Set<Cookie> cookies = UI_SESSIONS.get(role);
@@ -193,18 +444,11 @@ public class AuthenticationManager {
             return;
         }
         
+        long start = System.nanoTime();
         try {
-            // Navigate to base URL first to set cookie domain
-            driver.get(getBaseUrl());
-            
-            for (Cookie cookie : cookies) {
-                try {
-                    driver.manage().addCookie(cookie);
-                    LOGGER.debug("Injected cookie: {}", cookie.getName());
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to inject cookie {}: {}", cookie.getName(), e.getMessage());
-                }
-            }
+            // Cookie domain is primed without rendering an application page
+            CookieInjector.inject(driver, cookies, getBaseUrl());
+            AuthMetrics.cookieInjection(System.nanoTime() - start);
             
             LOGGER.info("Successfully injected cached session cookies for role: {}", role);
         } catch (Exception e) {
@@ -217,8 +461,11 @@ public class AuthenticationManager {
      * Useful for test cleanup.
      */
     public static void clearAllSessions() {
+        REFRESH_TASKS.values().forEach(task -> task.cancel(false));
+        REFRESH_TASKS.clear();
         UI_SESSIONS.clear();
         API_TOKENS.clear();
+        TOKEN_OWNERS.clear();
         LOGIN_COMPLETED.clear();
         LOGGER.info("Cleared all cached sessions and tokens");
     }
@@ -227,9 +474,14 @@ public class AuthenticationManager {
      * Clear cached session and token for a specific role.
      */
     public static void clearSession(String role) {
+        ScheduledFuture<?> task = REFRESH_TASKS.remove(role);
+        if (task != null) {
+            task.cancel(false);
+        }
         UI_SESSIONS.remove(role);
         API_TOKENS.remove(role);
         LOGIN_COMPLETED.remove(role);
+        PersistentAuthCache.evict(role);
         LOGGER.info("Cleared cached session for role: {}", role);
     }
     
@@ -241,9 +493,17 @@ public class AuthenticationManager {
     }
     
     /**
-     * Check if a role has a cached token.
+     * Number of logins avoided because a caller joined a login already in flight for its role.
+     */
+    public static long getLoginsAvoided() {
+        return LOGINS_AVOIDED.sum();
+    }
+    
+    /**
+     * Check if a role has a cached token that is still usable.
      */
     public static boolean hasToken(String role) {
-        return API_TOKENS.containsKey(role);
+        CachedToken cached = API_TOKENS.get(role);
+        return cached != null && cached.isUsableAt(Instant.now(), MIN_VALIDITY);
     }
 }
@@ -0,0 +1,71 @@
+package com.qatraining.hooks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * An API token together with the expiry decoded from its JWT "exp" claim.
+ * Tokens without a readable "exp" claim are treated as non-expiring.
+ */
+final class CachedToken {
+
+    private final String token;
+    private final Instant expiresAt;
+
+    CachedToken(String token, Instant expiresAt) {
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Wrap a raw token, decoding its expiry if it is a JWT.
+     */
+    static CachedToken of(String token) {
+        return new CachedToken(token, decodeExpiry(token));
+    }
+
+    String token() {
+        return token;
+    }
+
+    /**
+     * @return the expiry instant, or null if the token does not expire
+     */
+    Instant expiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * A token is usable if it stays valid for at least {@code minValidity} from {@code now}.
+     */
+    boolean isUsableAt(Instant now, Duration minValidity) {
+        return expiresAt == null || now.plus(minValidity).isBefore(expiresAt);
+    }
+
+    /**
+     * Decode the "exp" claim (seconds since epoch) from a JWT payload.
+     */
+    static Instant decodeExpiry(String token) {
+        if (token == null) {
+            return null;
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            JsonObject claims = JsonParser.parseString(payload).getAsJsonObject();
+            JsonElement exp = claims.get("exp");
+            return (exp == null || exp.isJsonNull()) ? null : Instant.ofEpochSecond(exp.getAsLong());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
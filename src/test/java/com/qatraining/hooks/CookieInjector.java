@@ -0,0 +1,108 @@
+package com.qatraining.hooks;
+
+import com.qatraining.utils.TestConfig;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Puts session cookies into the browser without rendering an application page first.
+ *
+ * WebDriver only accepts cookies for the domain of the current document, which used to
+ * cost a full page load per scenario. auth.cookie.injection selects the strategy:
+ * <ul>
+ *     <li>cdp (default): set cookies through Chrome DevTools; no navigation at all.
+ *     Falls back to "resource" for browsers without DevTools support.</li>
+ *     <li>resource: load a tiny static resource on the app origin (auth.cookie.priming.path).</li>
+ *     <li>page: load the application base URL (previous behaviour).</li>
+ * </ul>
+ */
+final class CookieInjector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CookieInjector.class);
+
+    private static final String MODE = TestConfig.get("auth.cookie.injection", "cdp").toLowerCase();
+    private static final String PRIMING_PATH = TestConfig.get("auth.cookie.priming.path", "/favicon.ico");
+
+    private CookieInjector() {
+    }
+
+    static void inject(WebDriver driver, Set<Cookie> cookies, String baseUrl) {
+        if ("cdp".equals(MODE)) {
+            HasCdp cdp = devTools(driver);
+            if (cdp != null) {
+                for (Cookie cookie : cookies) {
+                    cdp.executeCdpCommand("Network.setCookie", toCdpCookie(cookie, baseUrl));
+                    LOGGER.debug("Injected cookie via DevTools: {}", cookie.getName());
+                }
+                return;
+            }
+            LOGGER.debug("Driver has no DevTools support; priming cookie domain with a static resource");
+        }
+
+        String current = driver.getCurrentUrl();
+        if (current == null || !current.startsWith(baseUrl)) {
+            driver.get("page".equals(MODE) ? baseUrl : baseUrl + PRIMING_PATH);
+        }
+        for (Cookie cookie : cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+                LOGGER.debug("Injected cookie: {}", cookie.getName());
+            } catch (Exception e) {
+                LOGGER.warn("Failed to inject cookie {}: {}", cookie.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private static Map<String, Object> toCdpCookie(Cookie cookie, String baseUrl) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", cookie.getName());
+        params.put("value", cookie.getValue());
+        params.put("url", baseUrl);
+        params.put("path", cookie.getPath() != null ? cookie.getPath() : "/");
+        params.put("secure", cookie.isSecure());
+        params.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getExpiry() != null) {
+            params.put("expires", cookie.getExpiry().getTime() / 1000.0);
+        }
+        return params;
+    }
+
+    /**
+     * Unwrap Serenity's driver proxy down to a DevTools-capable driver, if there is one.
+     */
+    private static HasCdp devTools(WebDriver driver) {
+        WebDriver current = driver;
+        for (int depth = 0; depth < 5 && current != null; depth++) {
+            if (current instanceof HasCdp cdp) {
+                return cdp;
+            }
+            if (current instanceof WrapsDriver wraps) {
+                current = wraps.getWrappedDriver();
+                continue;
+            }
+            current = proxiedDriver(current);
+        }
+        return null;
+    }
+
+    /**
+     * Serenity's WebDriverFacade exposes the real driver through getProxiedDriver().
+     * Looked up reflectively so this class does not depend on Serenity internals.
+     */
+    private static WebDriver proxiedDriver(WebDriver driver) {
+        try {
+            Object proxied = driver.getClass().getMethod("getProxiedDriver").invoke(driver);
+            return (proxied instanceof WebDriver && proxied != driver) ? (WebDriver) proxied : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.qatraining.hooks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.qatraining.utils.TestConfig;
+import org.openqa.selenium.Cookie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Optional file-backed token and cookie cache shared by every JVM of one build.
+ * Entries live under target/ so "mvn clean" discards them. Each role has its own
+ * lock file; a fork that needs to log in holds the lock while doing so, and the
+ * other forks wait and then pick up the freshly written entry instead of logging in themselves.
+ *
+ * Enable with auth.cache.persistent=true.
+ */
+final class PersistentAuthCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentAuthCache.class);
+
+    private static final boolean ENABLED = TestConfig.getBoolean("auth.cache.persistent", false);
+    private static final Path CACHE_DIR = Paths.get(TestConfig.get("auth.cache.dir", "target/auth-cache"));
+
+    // Session cookies carry no expiry of their own; trust them for this long after they were saved
+    private static final Duration SESSION_COOKIE_TTL =
+            Duration.ofSeconds(TestConfig.getLong("auth.cache.session.ttl.seconds", 1800));
+
+    // In-JVM side of each named lock; see withRoleLock
+    private static final Map<String, ReentrantLock> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private PersistentAuthCache() {
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Return the role's token from disk if {@code reusable} accepts it, otherwise run
+     * {@code login} while holding the role's lock and persist the result.
+     */
+    static CachedToken loadOrLogin(String role, Predicate<CachedToken> reusable, Supplier<CachedToken> login) {
+        return withRoleLock(role + ".token", () -> {
+            CachedToken stored = readToken(role);
+            if (stored != null && reusable.test(stored)) {
+                LOGGER.info("Reusing API token for role {} from shared cache {}", role, CACHE_DIR);
+                return stored;
+            }
+            CachedToken fresh = login.get();
+            if (fresh != null) {
+                writeToken(role, fresh);
+            }
+            return fresh;
+        });
+    }
+
+    /**
+     * Return the role's UI session cookies from disk if still valid, otherwise run
+     * {@code login} while holding the role's lock and persist the result.
+     */
+    static Set<Cookie> loadOrLoginCookies(String role, Supplier<Set<Cookie>> login) {
+        return withRoleLock(role + ".cookies", () -> {
+            Set<Cookie> stored = readCookies(role);
+            if (stored != null && !stored.isEmpty()) {
+                LOGGER.info("Reusing UI session cookies for role {} from shared cache {}", role, CACHE_DIR);
+                return stored;
+            }
+            Set<Cookie> fresh = login.get();
+            if (fresh != null && !fresh.isEmpty()) {
+                writeCookies(role, fresh);
+            }
+            return fresh;
+        });
+    }
+
+    /**
+     * Remove a role's persisted entries so that the next caller logs in again.
+     */
+    static void evict(String role) {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(CACHE_DIR.resolve(role + ".token.json"));
+            Files.deleteIfExists(CACHE_DIR.resolve(role + ".cookies.json"));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to evict shared auth cache for role {}: {}", role, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove a role's persisted token if it is still {@code staleToken}; a token another
+     * fork has already replaced is left alone.
+     */
+    static void evictToken(String role, String staleToken) {
+        if (!ENABLED) {
+            return;
+        }
+        withRoleLock(role + ".token", () -> {
+            CachedToken stored = readToken(role);
+            if (stored != null && stored.token().equals(staleToken)) {
+                try {
+                    Files.deleteIfExists(CACHE_DIR.resolve(role + ".token.json"));
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to evict shared token for role {}: {}", role, e.getMessage());
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Run {@code action} holding the named lock in this JVM and then across forks. File locks are
+     * held per JVM, not per thread, so threads of one fork are serialized by the in-JVM lock first;
+     * without it a second thread would get OverlappingFileLockException and run unguarded.
+     */
+    private static <T> T withRoleLock(String name, Supplier<T> action) {
+        ReentrantLock jvmLock = JVM_LOCKS.computeIfAbsent(name, key -> new ReentrantLock());
+        jvmLock.lock();
+        try {
+            Files.createDirectories(CACHE_DIR);
+            try (FileChannel channel = FileChannel.open(CACHE_DIR.resolve(name + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                return action.get();
+            }
+        } catch (IOException e) {
+            // Other threads of this fork are still kept out by the in-JVM lock
+            LOGGER.warn("Shared auth cache lock {} unavailable ({}); continuing with the in-JVM lock only",
+                    name, e.getMessage());
+            return action.get();
+        } finally {
+            jvmLock.unlock();
+        }
+    }
+
+    private static CachedToken readToken(String role) {
+        JsonObject json = read(CACHE_DIR.resolve(role + ".token.json"));
+        if (json == null || !json.has("token")) {
+            return null;
+        }
+        JsonElement expiresAt = json.get("expiresAt");
+        return new CachedToken(json.get("token").getAsString(),
+                expiresAt == null || expiresAt.isJsonNull() ? null : Instant.ofEpochSecond(expiresAt.getAsLong()));
+    }
+
+    private static void writeToken(String role, CachedToken token) {
+        JsonObject json = new JsonObject();
+        json.addProperty("token", token.token());
+        if (token.expiresAt() != null) {
+            json.addProperty("expiresAt", token.expiresAt().getEpochSecond());
+        }
+        json.addProperty("savedAt", Instant.now().getEpochSecond());
+        write(CACHE_DIR.resolve(role + ".token.json"), json);
+    }
+
+    private static Set<Cookie> readCookies(String role) {
+        JsonObject json = read(CACHE_DIR.resolve(role + ".cookies.json"));
+        if (json == null || !json.has("cookies")) {
+            return null;
+        }
+        JsonElement saved = json.get("savedAt");
+        if (saved == null || saved.isJsonNull()) {
+            // Without a save time the session cookies' age is unknown; treat them as stale
+            return null;
+        }
+        Instant now = Instant.now();
+        Instant savedAt = Instant.ofEpochSecond(saved.getAsLong());
+        Set<Cookie> cookies = new LinkedHashSet<>();
+        for (JsonElement element : json.getAsJsonArray("cookies")) {
+            JsonObject c = element.getAsJsonObject();
+            Cookie.Builder builder = new Cookie.Builder(c.get("name").getAsString(), c.get("value").getAsString())
+                    .path(c.has("path") ? c.get("path").getAsString() : "/")
+                    .isSecure(c.has("secure") && c.get("secure").getAsBoolean())
+                    .isHttpOnly(c.has("httpOnly") && c.get("httpOnly").getAsBoolean());
+            if (c.has("domain")) {
+                builder.domain(c.get("domain").getAsString());
+            }
+            if (c.has("expiry")) {
+                Instant expiry = Instant.ofEpochMilli(c.get("expiry").getAsLong());
+                if (!expiry.isAfter(now)) {
+                    return null;
+                }
+                builder.expiresOn(Date.from(expiry));
+            } else if (savedAt.plus(SESSION_COOKIE_TTL).isBefore(now)) {
+                return null;
+            }
+            cookies.add(builder.build());
+        }
+        return cookies;
+    }
+
+    private static void writeCookies(String role, Set<Cookie> cookies) {
+        JsonArray array = new JsonArray();
+        for (Cookie cookie : cookies) {
+            JsonObject c = new JsonObject();
+            c.addProperty("name", cookie.getName());
+            c.addProperty("value", cookie.getValue());
+            c.addProperty("path", cookie.getPath());
+            c.addProperty("secure", cookie.isSecure());
+            c.addProperty("httpOnly", cookie.isHttpOnly());
+            if (cookie.getDomain() != null) {
+                c.addProperty("domain", cookie.getDomain());
+            }
+            if (cookie.getExpiry() != null) {
+                c.addProperty("expiry", cookie.getExpiry().getTime());
+            }
+            array.add(c);
+        }
+        JsonObject json = new JsonObject();
+        json.add("cookies", array);
+        json.addProperty("savedAt", Instant.now().getEpochSecond());
+        write(CACHE_DIR.resolve(role + ".cookies.json"), json);
+    }
+
+    private static JsonObject read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return JsonParser.parseString(Files.readString(file, StandardCharsets.UTF_8)).getAsJsonObject();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring unreadable shared auth cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(Path file, JsonObject json) {
+        try {
+            Path tmp = Files.createTempFile(CACHE_DIR, file.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, json.toString(), StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write shared auth cache entry {}: {}", file, e.getMessage());
+        }
+    }
+}
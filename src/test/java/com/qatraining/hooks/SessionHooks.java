@@ -9,44 +9,36 @@ import org.slf4j.LoggerFactory;
 /**
  * Hook to manage browser sessions for UI tests.
  * Uses AuthenticationManager for centralized session and token caching.
+ * Sessions are bootstrapped over HTTP and injected as cookies; only scenarios
+ * that exercise the login page itself drive the login form.
  */
 public class SessionHooks {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(SessionHooks.class);
 
     /**
-     * Before each scenario tagged with @admin, login as admin if not already logged in.
+     * Before each scenario tagged with @admin, log in as admin (from the session cache when possible).
      */
     @Before("@admin")
     public void beforeAdmin() {
         LOGGER.info("Setting up admin session");
         WebDriver driver = Serenity.getDriver();
-        
-        if (!AuthenticationManager.hasActiveSession("admin")) {
-            LOGGER.info("Admin session not found, performing login");
-            AuthenticationManager.loginAsAdmin(driver);
-        } else {
-            LOGGER.info("Admin session already cached, injecting cookies");
-            AuthenticationManager.injectSessionCookies(driver, "admin");
-            driver.navigate().to(AuthenticationManager.getBaseUrl() + "/ui/plants");
-        }
+
+        // Reuses the leased account's cached session if there is one, else obtains it
+        AuthenticationManager.loginAsAdmin(driver);
+        driver.navigate().to(AuthenticationManager.getBaseUrl() + "/ui/plants");
     }
 
     /**
-     * Before each scenario tagged with @nonadmin, login as test user if not already logged in.
+     * Before each scenario tagged with @nonadmin, log in as test user (from the session cache when possible).
      */
     @Before("@nonadmin")
     public void beforeNonAdmin() {
         LOGGER.info("Setting up test user session");
         WebDriver driver = Serenity.getDriver();
-        
-        if (!AuthenticationManager.hasActiveSession("testuser")) {
-            LOGGER.info("Test user session not found, performing login");
-            AuthenticationManager.loginAsTestUser(driver);
-        } else {
-            LOGGER.info("Test user session already cached, injecting cookies");
-            AuthenticationManager.injectSessionCookies(driver, "testuser");
-            driver.navigate().to(AuthenticationManager.getBaseUrl() + "/ui/plants");
-        }
+
+        // Reuses the leased account's cached session if there is one, else obtains it
+        AuthenticationManager.loginAsTestUser(driver);
+        driver.navigate().to(AuthenticationManager.getBaseUrl() + "/ui/plants");
     }
 }
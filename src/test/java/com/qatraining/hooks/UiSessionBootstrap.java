@@ -0,0 +1,104 @@
+package com.qatraining.hooks;
+
+import com.qatraining.api.HttpClientPool;
+import com.qatraining.utils.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.openqa.selenium.Cookie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Obtains a UI session cookie with a plain HTTP form post to the login endpoint,
+ * so the browser never has to render and submit the login page.
+ *
+ * Enabled with auth.ui.bootstrap=http (the default); auth.ui.bootstrap=form
+ * restores browser-driven login.
+ */
+final class UiSessionBootstrap {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UiSessionBootstrap.class);
+
+    private static final String LOGIN_PATH = TestConfig.get("auth.ui.login.path", "/ui/login");
+
+    // Spring Security renders the CSRF token as a hidden input on the login form
+    private static final Pattern CSRF_INPUT = Pattern.compile(
+            "name=\"(_csrf)\"[^>]*value=\"([^\"]*)\"|value=\"([^\"]*)\"[^>]*name=\"(_csrf)\"");
+
+    private UiSessionBootstrap() {
+    }
+
+    static boolean isEnabled() {
+        return "http".equalsIgnoreCase(TestConfig.get("auth.ui.bootstrap", "http"));
+    }
+
+    /**
+     * Log in through the login form endpoint and return the session cookies.
+     *
+     * @return the cookies, or null if the login was not accepted
+     */
+    static Set<Cookie> login(String baseUrl, String username, String password) {
+        String loginUrl = baseUrl + LOGIN_PATH;
+        try {
+            // Fetch the login form for the pre-login session cookie and CSRF token, if any
+            // Redirect handling is a client-level setting, so these requests use a private client
+            Response form = RestAssured.given()
+                    .config(HttpClientPool.unsharedConfig())
+                    .redirects().follow(false)
+                    .get(loginUrl);
+            Map<String, String> cookies = new LinkedHashMap<>(form.getCookies());
+            String csrf = extractCsrfToken(form.getBody().asString());
+
+            RequestSpecification request = RestAssured.given()
+                    .config(HttpClientPool.unsharedConfig())
+                    .redirects().follow(false)
+                    .cookies(cookies)
+                    .formParam("username", username)
+                    .formParam("password", password);
+            if (csrf != null) {
+                request.formParam("_csrf", csrf);
+            }
+            Response response = request.post(loginUrl);
+
+            String location = response.getHeader("Location");
+            boolean accepted = response.getStatusCode() / 100 == 3
+                    && location != null
+                    && !location.contains("error")
+                    && !location.endsWith(LOGIN_PATH);
+            if (!accepted) {
+                LOGGER.warn("HTTP login for {} was not accepted (status {}, location {})",
+                        username, response.getStatusCode(), location);
+                return null;
+            }
+
+            // Session fixation protection issues a new session id on login
+            cookies.putAll(response.getCookies());
+            Set<Cookie> sessionCookies = new LinkedHashSet<>();
+            cookies.forEach((name, value) -> sessionCookies.add(new Cookie.Builder(name, value).path("/").build()));
+            LOGGER.info("Obtained UI session for {} via HTTP form post ({} cookie(s))", username, sessionCookies.size());
+            return sessionCookies;
+        } catch (Exception e) {
+            LOGGER.warn("HTTP login for {} failed: {}", username, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String extractCsrfToken(String html) {
+        if (html == null) {
+            return null;
+        }
+        Matcher matcher = CSRF_INPUT.matcher(html);
+        if (!matcher.find()) {
+            return null;
+        }
+        return matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+    }
+}
@@ -0,0 +1,104 @@
+package com.qatraining.runners;
+
+import com.qatraining.api.RefreshOn401Filter;
+import com.qatraining.hooks.AccountPool;
+import com.qatraining.hooks.AuthMetrics;
+import com.qatraining.hooks.AuthenticationManager;
+import com.qatraining.utils.MetricsWriter;
+import com.qatraining.utils.TestConfig;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Authenticates every configured role (every account of its pool) in parallel before any scenario runs,
+ * so the first scenarios of each lane do not pay the login latency.
+ * Registered through META-INF/services; runs only in sessions with Cucumber scenarios (see
+ * {@link CucumberPlans}) and can be disabled with auth.warmup.enabled=false.
+ * Writes the authentication metrics when the run ends; run-wide HTTP setup and teardown live in
+ * {@link SuiteLifecycleListener}.
+ */
+public class AuthWarmupListener implements LauncherSessionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthWarmupListener.class);
+
+    private static volatile long warmupMillis = -1;
+
+    private volatile boolean active;
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        CucumberPlans.onFirstCucumberPlan(session, () -> {
+            active = true;
+            if (TestConfig.getBoolean("auth.warmup.enabled", true)) {
+                warmUp();
+            }
+        });
+    }
+
+    private void warmUp() {
+        long timeoutSeconds = TestConfig.getLong("auth.warmup.timeout.seconds", 30);
+        long start = System.nanoTime();
+
+        List<String> roles = AuthenticationManager.getConfiguredRoles();
+        List<AccountPool.Account> accounts = new ArrayList<>();
+        roles.forEach(role -> accounts.addAll(AccountPool.forRole(role).accounts()));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (AccountPool.Account account : accounts) {
+                futures.add(executor.submit(() -> AuthenticationManager.prewarm(account)));
+            }
+            long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Warm-up failed for {}: {}", accounts.get(i).username(), e.getCause().getMessage());
+                } catch (TimeoutException e) {
+                    LOGGER.warn("Warm-up for {} did not finish within {}s", accounts.get(i).username(), timeoutSeconds);
+                    futures.get(i).cancel(true);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        warmupMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        LOGGER.info("Credential warm-up for roles {} ({} account(s)) took {} ms", roles, accounts.size(), warmupMillis);
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (!active) {
+            return;
+        }
+        AccountPool.allStats().forEach((role, stats) -> LOGGER.info("Account pool utilization for {}: {}", role, stats));
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("warmupMillis", warmupMillis);
+        metrics.putAll(AuthMetrics.snapshot());
+        metrics.put("replaysAfter401", RefreshOn401Filter.getReplays());
+        MetricsWriter.write("auth-metrics", metrics);
+    }
+
+    /**
+     * @return how long the last warm-up took, or -1 if it did not run
+     */
+    public static long getWarmupMillis() {
+        return warmupMillis;
+    }
+}
@@ -0,0 +1,49 @@
+package com.qatraining.runners;
+
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Lets the launcher session listeners act only in sessions that run Cucumber scenarios, so plain
+ * unit test runs ({@code mvn test}) get no logins, HTTP setup or metrics files.
+ */
+final class CucumberPlans {
+
+    private static final String CUCUMBER_ENGINE = "cucumber";
+
+    private CucumberPlans() {
+    }
+
+    /**
+     * Run {@code action} once, when the session starts executing its first test plan that includes
+     * the Cucumber engine (directly or inside a suite).
+     */
+    static void onFirstCucumberPlan(LauncherSession session, Runnable action) {
+        session.getLauncher().registerTestExecutionListeners(new TestExecutionListener() {
+            private boolean done;
+
+            @Override
+            public void testPlanExecutionStarted(TestPlan testPlan) {
+                if (!done && includesCucumber(testPlan)) {
+                    done = true;
+                    action.run();
+                }
+            }
+        });
+    }
+
+    static boolean includesCucumber(TestPlan testPlan) {
+        return testPlan.getRoots().stream()
+                .flatMap(root -> testPlan.getDescendants(root).stream())
+                .map(TestIdentifier::getUniqueIdObject)
+                .anyMatch(CucumberPlans::isCucumber);
+    }
+
+    private static boolean isCucumber(UniqueId id) {
+        return id.getSegments().stream()
+                .anyMatch(segment -> "engine".equals(segment.getType()) && CUCUMBER_ENGINE.equals(segment.getValue()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.qatraining.runners;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+import static io.cucumber.junit.platform.engine.Constants.*;
+
+/**
+ * Test Runner for the Plant Management API features in fast mode.
+ * Same Gherkin as RunApiTests, but requests go through java.net.http instead of
+ * SerenityRest (selected per scenario by the TransportPlugin listed below) and the report
+ * gets a per-scenario summary instead of every exchange.
+ * Intended for smoke and load runs.
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features/api")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME,
+        value = "io.cucumber.core.plugin.SerenityReporterParallel,pretty,com.qatraining.fastmode.TransportPlugin:jdk")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.qatraining.stepdefinitions")
+@ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME, value = "@api and @plant-management and not @ignore")
+public class RunApiFastTests {
+}
@@ -18,7 +18,8 @@ import static io.cucumber.junit.platform.engine.Constants.*;
 // point directly to sales features (optional). Use "features/api" if you prefer tag filtering only.
 @SelectClasspathResource("features/api")
 @ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "io.cucumber.core.plugin.SerenityReporterParallel,pretty")
-@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.qatraining.stepdefinitions.api")
+// Whole step definition tree, so the common Hooks (watchdog, cleanup, pool and account release) run too
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.qatraining.stepdefinitions")
 @ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME, value = "@api and @sales-management and not @ignore")
 public class RunApiSalesTests {
 }
@@ -0,0 +1,72 @@
+package com.qatraining.runners;
+
+import com.qatraining.api.ApiTransport;
+import com.qatraining.api.CleanupScheduler;
+import com.qatraining.api.HttpClientPool;
+import com.qatraining.api.PlantPool;
+import com.qatraining.api.ReferenceDataCache;
+import com.qatraining.api.RefreshOn401Filter;
+import com.qatraining.api.ReportRecording;
+import com.qatraining.api.ResourceCleanup;
+import com.qatraining.utils.MetricsWriter;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Run-wide setup and teardown of the API support code: installs the pooled HTTP client and the
+ * global 401 refresh-and-replay filter before any scenario runs, and when the run ends deletes
+ * deferred and pooled test data and writes the HTTP, reporting and cleanup metrics.
+ * Registered through META-INF/services ahead of {@link AuthWarmupListener}, so it opens first
+ * and closes last. Only sessions that run Cucumber scenarios are touched; see {@link CucumberPlans}.
+ */
+public class SuiteLifecycleListener implements LauncherSessionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SuiteLifecycleListener.class);
+
+    private volatile boolean active;
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        CucumberPlans.onFirstCucumberPlan(session, () -> {
+            active = true;
+            HttpClientPool.install();
+            RefreshOn401Filter.install();
+        });
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (!active) {
+            return;
+        }
+        CleanupScheduler.flushAtSuiteEnd();
+        MetricsWriter.write("cleanup", CleanupScheduler.stats());
+
+        // After the deferred batch, so the sales referencing pooled plants are gone first
+        ResourceCleanup.Summary poolCleanup = PlantPool.deleteAll();
+        if (poolCleanup != null) {
+            LOGGER.info("Plant pool removed: {} deleted, {} already gone, {} failed in {} ms",
+                    poolCleanup.deleted(), poolCleanup.alreadyGone(), poolCleanup.failed(), poolCleanup.millis());
+        }
+        MetricsWriter.write("plant-pool", PlantPool.stats());
+
+        Map<String, Object> pool = HttpClientPool.stats();
+        LOGGER.info("HTTP connection pool: {}", pool);
+        MetricsWriter.write("http-pool", pool);
+
+        Map<String, Object> transport = ApiTransport.current().stats();
+        if (!transport.isEmpty()) {
+            MetricsWriter.write("api-transport", transport);
+        }
+
+        MetricsWriter.write("rest-recording", ReportRecording.stats());
+
+        Map<String, Object> referenceCache = ReferenceDataCache.stats();
+        LOGGER.info("Reference data cache: {}", referenceCache);
+        MetricsWriter.write("reference-cache", referenceCache);
+    }
+}
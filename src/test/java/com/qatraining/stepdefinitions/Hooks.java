@@ -4,10 +4,20 @@ import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import net.serenitybdd.core.Serenity;
-import net.serenitybdd.rest.SerenityRest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.qatraining.api.ApiTransport;
+import com.qatraining.api.CleanupScheduler;
+import com.qatraining.api.PlantPool;
+import com.qatraining.api.ReportRecording;
+import com.qatraining.api.ResourceCleanup;
+import com.qatraining.api.ResourceRegistry;
+import com.qatraining.hooks.AccountPool;
+import com.qatraining.hooks.AuthMetrics;
 import com.qatraining.hooks.AuthenticationManager;
+import com.qatraining.utils.ScenarioWatchdog;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Common hooks for Plant Management Cucumber scenarios.
@@ -17,11 +27,42 @@ public class Hooks {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Hooks.class);
 
+    /**
+     * Runs before every other hook so login and session setup count against the scenario's budget.
+     */
+    @Before(order = 0)
+    public void startScenarioBudget(Scenario scenario) {
+        ScenarioWatchdog.start(scenario.getName());
+    }
+
     @Before
     public void beforeScenario(Scenario scenario) {
         LOGGER.info("Starting scenario: {}", scenario.getName());
         LOGGER.info("Tags: {}", scenario.getSourceTagNames());
         Serenity.recordReportData().withTitle("Test Scenario").andContents(scenario.getName());
+        AuthMetrics.startScenario();
+        ApiTransport.current().startScenario();
+        ReportRecording.startScenario(scenario.getSourceTagNames());
+        ResourceRegistry.startScenario();
+    }
+
+    /**
+     * Runs before every other after-hook: stops the budget, and if the scenario ran out of time
+     * attaches the thread dump and fails it, after clearing the interrupt so cleanup still works.
+     */
+    @After(order = Integer.MAX_VALUE)
+    public void checkScenarioBudget(Scenario scenario) {
+        String threadDump = ScenarioWatchdog.finish();
+        if (threadDump == null) {
+            return;
+        }
+        String message = "Scenario '" + scenario.getName() + "' exceeded its time budget of "
+                + ScenarioWatchdog.getTimeoutSeconds() + "s";
+        scenario.attach(threadDump.getBytes(StandardCharsets.UTF_8), "text/plain", "Thread dump");
+        Serenity.recordReportData()
+                .withTitle("Scenario Timeout ✗")
+                .andContents(message + "\n\nThread dump at the deadline:\n" + threadDump);
+        throw new AssertionError(message);
     }
 
     @After
@@ -35,13 +76,36 @@ public class Hooks {
                     .andContents("Scenario '" + scenario.getName() + "' failed");
         }
         
-        // Clean up test plants after UI scenarios
-        if (scenario.getSourceTagNames().stream().anyMatch(t -> t.equalsIgnoreCase("@ui"))) {
-            try {
-                cleanupTestPlants();
-            } catch (Exception e) {
-                LOGGER.error("Error during cleanupTestPlants: {}", e.getMessage());
+        // Delete exactly what this scenario created, now or in a deferred batch (cleanup.mode)
+        try {
+            ResourceCleanup.Summary cleanup = CleanupScheduler.afterScenario(AuthenticationManager.getBaseUrl(),
+                    ResourceRegistry.current(), scenario.getSourceTagNames().contains(CleanupScheduler.CLEAN_SLATE_TAG));
+            if (cleanup != null) {
+                LOGGER.info("Cleanup for '{}': {} deleted, {} already gone, {} failed, {} retries in {} ms",
+                        scenario.getName(), cleanup.deleted(), cleanup.alreadyGone(), cleanup.failed(),
+                        cleanup.retries(), cleanup.millis());
+                Serenity.recordReportData().withTitle("Cleanup").andContents(cleanup.describe());
             }
+        } catch (Exception e) {
+            LOGGER.error("Error during cleanup: {}", e.getMessage());
+        }
+        
+        // Return pooled plants (needs the admin lease, so before the accounts) and accounts
+        try {
+            PlantPool.releaseCurrentThread(AuthenticationManager.getBaseUrl());
+        } catch (Exception e) {
+            LOGGER.error("Error returning pooled plants: {}", e.getMessage());
+        }
+        AccountPool.releaseCurrentThread();
+        
+        String authSummary = AuthMetrics.scenarioSummary();
+        if (authSummary != null) {
+            Serenity.recordReportData().withTitle("Authentication").andContents(authSummary);
+        }
+        
+        String transportSummary = ApiTransport.current().scenarioSummary();
+        if (transportSummary != null) {
+            Serenity.recordReportData().withTitle("API Transport").andContents(transportSummary);
         }
     }
 
@@ -62,57 +126,4 @@ public class Hooks {
             LOGGER.info("Taking screenshot for failed UI scenario");
         }
     }
-
-    /**
-     * Authenticate as admin, list plants and delete test-created plants by name.
-     * This swallows errors and only logs results to avoid making cleanup failures fail tests.
-     * Uses cached token from AuthenticationManager for efficiency.
-     */
-    private void cleanupTestPlants() {
-        String baseUrl = AuthenticationManager.getBaseUrl();
-        LOGGER.info("Running cleanupTestPlants against {}", baseUrl);
-
-        try {
-            // Get cached or newly obtained token
-            String token = AuthenticationManager.getAdminToken();
-            
-            if (token == null || token.isEmpty()) {
-                LOGGER.warn("No token available for cleanup; skipping cleanup");
-                return;
-            }
-
-            String authHeader = "Bearer " + token;
-
-            // List plants and find ones created by tests
-            java.util.List<Integer> idsToDelete = SerenityRest.given()
-                    .header("Authorization", authHeader)
-                    .get(baseUrl + "/api/plants")
-                    .then()
-                    .statusCode(200)
-                    .extract()
-                    .jsonPath()
-                    .getList("findAll { it.name == 'Orchid' || it.name ==~ /(?i).*test.*/ }.id", Integer.class);
-
-            if (idsToDelete == null || idsToDelete.isEmpty()) {
-                LOGGER.info("No test plants found to delete");
-                return;
-            }
-
-            // Delete each plant by id
-            for (Integer id : idsToDelete) {
-                try {
-                    SerenityRest.given()
-                            .header("Authorization", authHeader)
-                            .delete(baseUrl + "/api/plants/" + id)
-                            .then()
-                            .statusCode(204);  // 204 No Content is success for DELETE
-                    LOGGER.info("Deleted plant id={}", id);
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to delete plant id={} : {}", id, e.getMessage());
-                }
-            }
-        } catch (Exception e) {
-            LOGGER.error("Exception in cleanupTestPlants: {}", e.getMessage(), e);
-        }
-    }
 }
@@ -1,14 +1,15 @@
 package com.qatraining.stepdefinitions.api;
 
+import com.qatraining.abilities.AuthenticateWithToken;
 import com.qatraining.abilities.CallTheApi;
+import com.qatraining.api.PlantPool;
+import com.qatraining.api.ResourceRegistry;
+import com.qatraining.hooks.AuthenticationManager;
 import io.cucumber.java.en.*;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import net.serenitybdd.rest.SerenityRest;
 import net.serenitybdd.screenplay.Actor;
 import net.serenitybdd.screenplay.rest.interactions.*;
-import net.serenitybdd.screenplay.rest.questions.LastResponse;
-import net.serenitybdd.screenplay.Actor;
 
 import java.util.*;
 
@@ -22,45 +23,65 @@ public class SaleManagementApiDefinitions {
     Actor admin = Actor.named("Admin");
     Actor user = Actor.named("User");
 
-    @Given("Admin user is authenticated")
-    public void admin_authenticated() {
+    /**
+     * The pooled plant known as {@code alias} in this scenario, leased on first use (Hooks returns it).
+     */
+    private PlantPool.PooledPlant pooledPlant(String alias) {
+        return PlantPool.lease(AuthenticationManager.getBaseUrl(), alias);
+    }
 
-        admin.can(CallTheApi.at("http://localhost:8080"));
+    private int pooledPlantId(String alias) {
+        return Integer.parseInt(pooledPlant(alias).id());
+    }
 
-        admin.attemptsTo(
-                Post.to("/api/auth/login")
-                        .with(req -> req
-                                .contentType("application/json")
-                                .body("""
-                        {
-                          "username": "admin",
-                          "password": "admin123"
-                        }
-                        """))
-        );
+    /**
+     * Authorization header from the actor's cached, auto-refreshed token.
+     */
+    private String bearer(Actor actor) {
+        return AuthenticateWithToken.as(actor).bearerHeader();
+    }
 
-        String token = SerenityRest.lastResponse().jsonPath().getString("token");
+    /**
+     * Register a successfully created sale so teardown deletes it.
+     */
+    private void trackSale(Response response) {
+        if (response.statusCode() == 200 || response.statusCode() == 201) {
+            ResourceRegistry.current().register(ResourceRegistry.Kind.SALE, response.jsonPath().getString("id"));
+        }
+    }
 
-        admin.remember("authToken", token);
+    @Given("Admin user is authenticated")
+    public void admin_authenticated() {
+
+        admin.can(CallTheApi.at(AuthenticationManager.getBaseUrl()));
+        admin.can(AuthenticateWithToken.asRole("admin"));
     }
 
     @When("Admin sells plant with id {int} quantity {int}")
     public void admin_sells_plant(int plantId, int quantity) {
 
-        String token = admin.recall("authToken");
-
         admin.attemptsTo(
                 Post.to("/api/sales/plant/{plantId}")
                         .with(request -> request
-                                .header("Authorization", "Bearer " + token)
+                                .header("Authorization", bearer(admin))
                                 .pathParam("plantId", plantId)
                                 .queryParam("quantity", quantity)
                         )
         );
 
-        SerenityRest.lastResponse().prettyPrint();
+        Response response = SerenityRest.lastResponse();
+        response.prettyPrint();
+        trackSale(response);
+    }
 
+    @When("Admin sells pooled plant {string} quantity {int}")
+    public void admin_sells_pooled_plant(String alias, int quantity) {
+        admin_sells_plant(pooledPlantId(alias), quantity);
+    }
 
+    @When("Admin sells more than the stock of pooled plant {string}")
+    public void admin_oversells_pooled_plant(String alias) {
+        admin_sells_plant(pooledPlantId(alias), pooledPlant(alias).stock() + 1);
     }
 
     @Then("Sale should be successful")
@@ -121,45 +142,32 @@ public class SaleManagementApiDefinitions {
     @Given("Non-admin user is authenticated")
     public void non_admin_authenticated() {
 
-
-
-        user.can(CallTheApi.at("http://localhost:8080"));
-
-        user.attemptsTo(
-                Post.to("/api/auth/login")
-                        .with(req -> req
-                                .contentType("application/json")
-                                .body("""
-                    {
-                      "username": "testuser",
-                      "password": "test123"
-                    }
-                    """))
-        );
-
-        String token = LastResponse.received().answeredBy(user)
-                .jsonPath().getString("token");
-
-        user.remember("authToken", token);
+        user.can(CallTheApi.at(AuthenticationManager.getBaseUrl()));
+        user.can(AuthenticateWithToken.asRole("testuser"));
     }
 
     @When("Non-admin tries to sell plant with id {int} quantity {int}")
     public void non_admin_sell_attempt(int plantId, int quantity) {
 
-
-        String token = user.recall("authToken");
-
         user.attemptsTo(
                 Post.to("/api/sales/plant/{plantId}")
                         .with(req -> req
-                                .header("Authorization", "Bearer " + token)
+                                .header("Authorization", bearer(user))
                                 .pathParam("plantId", plantId)
                                 .queryParam("quantity", quantity)
                         )
         );
 
-        SerenityRest.lastResponse().prettyPrint();
+        Response response = SerenityRest.lastResponse();
+        response.prettyPrint();
+        // Expected to be refused; track it anyway so an access-control regression leaves nothing behind
+        trackSale(response);
     }
+    @When("Non-admin tries to sell pooled plant {string} quantity {int}")
+    public void non_admin_sells_pooled_plant(String alias, int quantity) {
+        non_admin_sell_attempt(pooledPlantId(alias), quantity);
+    }
+
     @Then("Sale should be forbidden")
     public void verify_forbidden() {
 
@@ -173,11 +181,9 @@ public class SaleManagementApiDefinitions {
     @When("Admin requests all sales")
     public void get_all_sales() {
 
-        String token = admin.recall("authToken");
-
         admin.attemptsTo(
                 Get.resource("/api/sales")
-                        .with(req -> req.header("Authorization", "Bearer " + token))
+                        .with(req -> req.header("Authorization", bearer(admin)))
         );
 
         SerenityRest.lastResponse().prettyPrint(); // debug
@@ -202,12 +208,10 @@ public class SaleManagementApiDefinitions {
     @Given("Admin creates a sale with plant id {int} quantity {int}")
     public void create_sale(int plantId, int quantity) {
 
-        String token = admin.recall("authToken");
-
         admin.attemptsTo(
                 Post.to("/api/sales/plant/{plantId}")
                         .with(req -> req
-                                .header("Authorization", "Bearer " + token)
+                                .header("Authorization", bearer(admin))
                                 .pathParam("plantId", plantId)
                                 .queryParam("quantity", quantity)
                         )
@@ -221,20 +225,25 @@ public class SaleManagementApiDefinitions {
 
         Integer saleId = response.jsonPath().getInt("id");
         admin.remember("saleId", saleId);
+        trackSale(response);
     }
 
 
 
+    @Given("Admin creates a sale with pooled plant {string} quantity {int}")
+    public void create_sale_for_pooled_plant(String alias, int quantity) {
+        create_sale(pooledPlantId(alias), quantity);
+    }
+
     @When("Admin retrieves the created sale")
     public void admin_gets_created_sale() {
 
-        String token = admin.recall("authToken");
         int saleId = admin.recall("saleId");
 
         admin.attemptsTo(
                 Get.resource("/api/sales/{id}")
                         .with(req -> req
-                                .header("Authorization", "Bearer " + token)
+                                .header("Authorization", bearer(admin))
                                 .pathParam("id", saleId)
                         )
         );
@@ -264,12 +273,10 @@ public class SaleManagementApiDefinitions {
     @When("Admin retrieves sale with id {int}")
     public void admin_gets_sale_with_invalid_id(int saleId) {
 
-        String token = admin.recall("authToken");
-
         admin.attemptsTo(
                 Get.resource("/api/sales/{id}")
                         .with(req -> req
-                                .header("Authorization", "Bearer " + token)
+                                .header("Authorization", bearer(admin))
                                 .pathParam("id", saleId)
                         )
         );
@@ -293,18 +300,20 @@ public class SaleManagementApiDefinitions {
 @When("Admin deletes the created sale")
 public void admin_deletes_sale() {
 
-    String token = admin.recall("authToken");
     int saleId = admin.recall("saleId");
 
     admin.attemptsTo(
             Delete.from("/api/sales/{id}")
                     .with(req -> req
-                            .header("Authorization", "Bearer " + token)
+                            .header("Authorization", bearer(admin))
                             .pathParam("id", saleId)
                     )
     );
 
     SerenityRest.lastResponse().prettyPrint();
+    if (SerenityRest.lastResponse().statusCode() == 204) {
+        ResourceRegistry.current().forget(ResourceRegistry.Kind.SALE, String.valueOf(saleId));
+    }
 }
     @Then("Sale should be deleted successfully")
     public void verify_sale_deleted() {
@@ -320,15 +329,13 @@ public void admin_deletes_sale() {
     @When("Admin deletes a sale with invalid ID")
     public void admin_deletes_sale_with_invalid_id() {
 
-        String token = admin.recall("authToken");
-
         // Use a sale ID that does not exist (e.g., 999999)
         int invalidSaleId = 999999;
 
         admin.attemptsTo(
                 Delete.from("/api/sales/{id}")
                         .with(req -> req
-                                .header("Authorization", "Bearer " + token)
+                                .header("Authorization", bearer(admin))
                                 .pathParam("id", invalidSaleId)
                         )
         );
@@ -349,12 +356,10 @@ public void admin_deletes_sale() {
     @When("Admin retrieves sales page {int} size {int} sorted by id descending")
     public void get_sales_page(int page, int size) {
 
-        String token = admin.recall("authToken");
-
         admin.attemptsTo(
                 Get.resource("/api/sales/page")
                         .with(req -> req
-                                .header("Authorization", "Bearer " + token)
+                                .header("Authorization", bearer(admin))
                                 .queryParam("page", page)
                                 .queryParam("size", size)
                                 .queryParam("sort", "id,desc")
@@ -13,9 +13,13 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.qatraining.api.ResourceRegistry;
 import com.qatraining.pages.LoginPage;
 import com.qatraining.pages.PlantsPage;
+import com.qatraining.utils.UniqueNames;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Step definitions for Plant Management UI tests
@@ -27,7 +31,24 @@ public class PlantManagementUiStepDefinitions {
     private LoginPage loginPage;
     private PlantsPage plantsPage;
     private WebDriver driver;
+    private String enteredPlantName;
+    /** Unique names given to the plants this scenario creates, by the name used in the feature file */
+    private final Map<String, String> uniquePlantNames = new HashMap<>();
     
+    /**
+     * Give a plant about to be created a unique name, so parallel scenarios never collide
+     */
+    private String uniquePlantName(String plantName) {
+        return uniquePlantNames.computeIfAbsent(plantName, UniqueNames::of);
+    }
+
+    /**
+     * The unique name of a plant this scenario created, or the name as given for existing plants
+     */
+    private String createdPlantName(String plantName) {
+        return uniquePlantNames.getOrDefault(plantName, plantName);
+    }
+
     /**
      * Initialize pages before each step
      */
@@ -262,9 +283,11 @@ public class PlantManagementUiStepDefinitions {
     @When("the admin enters plant name {string}")
     public void adminEntersPlantName(String plantName) {
         initPages();
+        plantName = uniquePlantName(plantName);
         LOGGER.info("Entering plant name: {}", plantName);
         
         plantsPage.enterPlantName(plantName);
+        enteredPlantName = plantName;
         
         LOGGER.info("✓ Plant name '{}' entered", plantName);
     }
@@ -317,6 +340,8 @@ public class PlantManagementUiStepDefinitions {
         LOGGER.info("Submitting plant form");
         
         plantsPage.submitPlantForm();
+        // Teardown resolves the name to an ID if the plant was created
+        ResourceRegistry.current().registerPlantName(enteredPlantName);
         
         // Wait for form submission and page update
         try {
@@ -350,6 +375,7 @@ public class PlantManagementUiStepDefinitions {
     @And("the new plant {string} should appear in the table")
     public void newPlantShouldAppearInTable(String plantName) {
         initPages();
+        plantName = createdPlantName(plantName);
         LOGGER.info("Verifying plant '{}' appears in the table", plantName);
 
         plantsPage.waitForPlantInTable(plantName);
@@ -456,6 +482,7 @@ public class PlantManagementUiStepDefinitions {
     @When("the admin clicks the edit button for plant {string}")
     public void theAdminClicksTheEditButtonForPlant(String plantName) {
         initPages();
+        plantName = createdPlantName(plantName);
         LOGGER.info("Clicking edit button for plant: {}", plantName);
         plantsPage.clickEditButtonForPlant(plantName);
         plantsPage.waitForEditPageToLoad();
@@ -490,6 +517,7 @@ public class PlantManagementUiStepDefinitions {
     @Then("the plant {string} should have price {string} in the table")
     public void thePlantShouldHavePriceInTheTable(String plantName, String expectedPrice) {
         initPages();
+        plantName = createdPlantName(plantName);
         LOGGER.info("Verifying price for plant '{}' is '{}'", plantName, expectedPrice);
 
         plantsPage.waitForPlantInTable(plantName);
@@ -512,6 +540,7 @@ public class PlantManagementUiStepDefinitions {
     @When("the admin clicks the delete button for plant {string}")
     public void theAdminClicksTheDeleteButtonForPlant(String plantName) {
         initPages();
+        plantName = createdPlantName(plantName);
         LOGGER.info("Clicking delete button for plant: {}", plantName);
         plantsPage.clickDeleteButtonForPlant(plantName);
         LOGGER.info("✓ Delete button clicked for plant: {}", plantName);
@@ -534,6 +563,7 @@ public class PlantManagementUiStepDefinitions {
     @Then("the plant {string} should not be in the table")
     public void thePlantShouldNotBeInTheTable(String plantName) {
         initPages();
+        plantName = createdPlantName(plantName);
         LOGGER.info("Verifying plant '{}' is not in the table", plantName);
         
         boolean plantExists = plantsPage.isPlantInTable(plantName);
@@ -596,6 +626,7 @@ public class PlantManagementUiStepDefinitions {
     @And("the plant {string} should have category {string} and price {string} in the table")
     public void plantShouldHaveCategoryAndPriceInTable(String plantName, String expectedCategory, String expectedPrice) {
         initPages();
+        plantName = createdPlantName(plantName);
         LOGGER.info("Verifying category and price for plant: {}", plantName);
 
         plantsPage.waitForPlantInTable(plantName);
@@ -743,6 +774,7 @@ public class PlantManagementUiStepDefinitions {
     @When("the admin creates a plant named {string} without an image")
     public void adminCreatesPlantWithoutImage(String plantName) {
         initPages();
+        plantName = uniquePlantName(plantName);
         LOGGER.info("Admin creating plant '{}' without an image", plantName);
         plantsPage.clickAddPlantButton();
         plantsPage.enterPlantName(plantName);
@@ -751,6 +783,7 @@ public class PlantManagementUiStepDefinitions {
         plantsPage.selectCategory("Flower");
         // Skipping image field interaction
         plantsPage.clickSaveButton();
+        ResourceRegistry.current().registerPlantName(plantName);
         LOGGER.info("✓ Plant create request sent");
     }
 
@@ -760,6 +793,7 @@ public class PlantManagementUiStepDefinitions {
     @Then("the plant {string} should show the default placeholder image")
     public void plantShouldShowDefaultPlaceholder(String plantName) {
         initPages();
+        plantName = createdPlantName(plantName);
         LOGGER.info("Verifying default placeholder for plant: {}", plantName);
         
         // Robust wait: ensure modal is closed first
@@ -0,0 +1,47 @@
+package com.qatraining.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Writes machine-readable run metrics as JSON under target/metrics, one file per
+ * metric group and JVM, so builds can be compared over time.
+ */
+public final class MetricsWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsWriter.class);
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
+
+    private static final Path METRICS_DIR = Paths.get(TestConfig.get("metrics.dir", "target/metrics"));
+
+    private MetricsWriter() {
+    }
+
+    /**
+     * Write {@code metrics} to target/metrics/{name}-{pid}.json.
+     *
+     * @return the file written, or null if it could not be written
+     */
+    public static Path write(String name, Map<String, ?> metrics) {
+        Path file = METRICS_DIR.resolve(name + "-" + ProcessHandle.current().pid() + ".json");
+        try {
+            Files.createDirectories(METRICS_DIR);
+            Files.writeString(file, GSON.toJson(metrics), StandardCharsets.UTF_8);
+            LOGGER.info("Wrote {} metrics to {}", name, file);
+            return file;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write {} metrics to {}: {}", name, file, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.qatraining.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-scenario time budget (scenario.timeout.seconds, 0 disables it).
+ *
+ * When a scenario runs past its budget the watchdog takes a thread dump, with the scenario's
+ * own thread first, and interrupts that thread so interruptible waits end at once. API transports
+ * call {@link #checkDeadline()} before each request, so an overrunning scenario fails at its next
+ * call instead of queueing more work; blocking socket reads are bounded by the HTTP read timeout.
+ * Hooks calls {@link #finish()} after the scenario to attach the dump and fail it.
+ */
+public final class ScenarioWatchdog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioWatchdog.class);
+
+    private static final long TIMEOUT_SECONDS = TestConfig.getLong("scenario.timeout.seconds", 300);
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "scenario-watchdog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final ThreadLocal<Watch> CURRENT = new ThreadLocal<>();
+    private static final LongAdder TIMEOUTS = new LongAdder();
+
+    private static final int ACTIVE = 0;
+    private static final int FINISHED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final class Watch {
+        final String scenario;
+        final Thread thread;
+        final long deadlineNanos;
+        // ACTIVE until either finish() or expire() wins the CAS; the loser backs off
+        final AtomicInteger state = new AtomicInteger(ACTIVE);
+        // Released once expire() has taken the dump and interrupted the thread
+        final CountDownLatch expiryDone = new CountDownLatch(1);
+        ScheduledFuture<?> timer;
+        volatile String threadDump;
+
+        Watch(String scenario, Thread thread, long deadlineNanos) {
+            this.scenario = scenario;
+            this.thread = thread;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        boolean expired() {
+            return state.get() == EXPIRED || System.nanoTime() - deadlineNanos >= 0;
+        }
+    }
+
+    private ScenarioWatchdog() {
+    }
+
+    /**
+     * Start the budget for the scenario about to run on this thread.
+     */
+    public static void start(String scenario) {
+        if (TIMEOUT_SECONDS <= 0) {
+            return;
+        }
+        Watch watch = new Watch(scenario, Thread.currentThread(),
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS));
+        watch.timer = TIMER.schedule(() -> expire(watch), TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        CURRENT.set(watch);
+    }
+
+    /**
+     * Fail fast if the current scenario is out of time.
+     *
+     * @throws AssertionError if the scenario's budget is used up
+     */
+    public static void checkDeadline() {
+        Watch watch = CURRENT.get();
+        if (watch != null && watch.expired()) {
+            throw new AssertionError("Scenario '" + watch.scenario + "' exceeded its time budget of "
+                    + TIMEOUT_SECONDS + "s");
+        }
+    }
+
+    /**
+     * Stop the budget for the scenario on this thread.
+     *
+     * @return the thread dump taken when the scenario timed out, or null if it finished in time
+     */
+    public static String finish() {
+        Watch watch = CURRENT.get();
+        CURRENT.remove();
+        if (watch == null) {
+            return null;
+        }
+        watch.timer.cancel(false);
+        if (watch.state.compareAndSet(ACTIVE, FINISHED)) {
+            // Finished in time: expire() can no longer interrupt this thread
+            Thread.interrupted();
+            return null;
+        }
+        // expire() won; wait until its interrupt has landed so it cannot hit the next scenario
+        boolean done = false;
+        while (!done) {
+            try {
+                watch.expiryDone.await();
+                done = true;
+            } catch (InterruptedException e) {
+                // The watchdog's own interrupt; keep waiting
+            }
+        }
+        // Clear the interrupt raised by the watchdog so teardown can run normally
+        Thread.interrupted();
+        return watch.threadDump;
+    }
+
+    public static long getTimeouts() {
+        return TIMEOUTS.sum();
+    }
+
+    public static long getTimeoutSeconds() {
+        return TIMEOUT_SECONDS;
+    }
+
+    private static void expire(Watch watch) {
+        if (!watch.state.compareAndSet(ACTIVE, EXPIRED)) {
+            return;
+        }
+        try {
+            TIMEOUTS.increment();
+            watch.threadDump = threadDump(watch.thread);
+            LOGGER.error("Scenario '{}' exceeded its time budget of {}s; interrupting {}",
+                    watch.scenario, TIMEOUT_SECONDS, watch.thread.getName());
+            watch.thread.interrupt();
+        } finally {
+            watch.expiryDone.countDown();
+        }
+    }
+
+    private static String threadDump(Thread first) {
+        StringBuilder dump = new StringBuilder();
+        Map<Thread, StackTraceElement[]> traces = Thread.getAllStackTraces();
+        append(dump, first, first.getStackTrace());
+        traces.forEach((thread, trace) -> {
+            if (thread != first) {
+                append(dump, thread, trace);
+            }
+        });
+        return dump.toString();
+    }
+
+    private static void append(StringBuilder dump, Thread thread, StackTraceElement[] trace) {
+        dump.append('"').append(thread.getName()).append('"')
+                .append(thread.isDaemon() ? " daemon" : "")
+                .append(" state=").append(thread.getState())
+                .append('\n');
+        for (StackTraceElement element : trace) {
+            dump.append("    at ").append(element).append('\n');
+        }
+        dump.append('\n');
+    }
+}
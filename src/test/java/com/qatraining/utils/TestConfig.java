@@ -0,0 +1,57 @@
+package com.qatraining.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Read-only access to test-config.properties.
+ * Any key can be overridden from the command line with -Dkey=value.
+ */
+public final class TestConfig {
+
+    private static final Properties CONFIG = loadConfig();
+
+    private TestConfig() {
+    }
+
+    private static Properties loadConfig() {
+        Properties p = new Properties();
+        try (InputStream in = TestConfig.class.getResourceAsStream("/test-config.properties")) {
+            if (in != null) p.load(in);
+        } catch (IOException ignored) {
+        }
+        return p;
+    }
+
+    /**
+     * Get a property, preferring a system property of the same name.
+     */
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            value = CONFIG.getProperty(key);
+        }
+        return (value == null || value.isBlank()) ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(get(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        try {
+            return Long.parseLong(get(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(get(key, String.valueOf(defaultValue)));
+    }
+}
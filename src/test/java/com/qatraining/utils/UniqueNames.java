@@ -0,0 +1,80 @@
+package com.qatraining.utils;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collision-free names for test data created in parallel.
+ *
+ * A name is the base name plus "_" and a base-36 suffix of three zero-padded fields: the run ID
+ * (6 characters), the fork ID (2) and a per-JVM counter (at least 4, the only field that may grow,
+ * and the last, so suffixes never run into each other). The counter is an {@link AtomicLong}, so
+ * threads never wait on each other and never share a suffix. The run ID (run.id, default the JVM
+ * start time in seconds, which wraps after about 69 years) separates runs; the fork ID (fork.id,
+ * set from surefire.forkNumber by the failsafe configuration, else the process ID) separates JVMs
+ * of one run. The base name is shortened so the result fits names.max.length.
+ */
+public final class UniqueNames {
+
+    static final int RUN_WIDTH = 6;
+    static final int FORK_WIDTH = 2;
+    static final int COUNTER_WIDTH = 4;
+
+    private static final int MAX_LENGTH = TestConfig.getInt("names.max.length", 25);
+
+    private static final String PREFIX = prefix(
+            TestConfig.get("run.id", Long.toString(System.currentTimeMillis() / 1000, 36)),
+            forkNumber(TestConfig.get("fork.id", String.valueOf(ProcessHandle.current().pid()))));
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private UniqueNames() {
+    }
+
+    /**
+     * @return {@code baseName} with a suffix no other call in this or a parallel run gets,
+     *         at most names.max.length characters long
+     */
+    public static String of(String baseName) {
+        return of(baseName, PREFIX, COUNTER.incrementAndGet(), MAX_LENGTH);
+    }
+
+    static String of(String baseName, String prefix, long counter, int maxLength) {
+        String suffix = "_" + prefix + pad(Long.toString(counter, 36), COUNTER_WIDTH);
+        String base = baseName == null ? "" : baseName.trim();
+        int room = maxLength - suffix.length();
+        if (base.length() > room) {
+            base = base.substring(0, Math.max(0, room)).trim();
+        }
+        return base + suffix;
+    }
+
+    static String prefix(String runId, long forkNumber) {
+        return runField(runId) + pad(Long.toString(forkNumber % pow36(FORK_WIDTH), 36), FORK_WIDTH);
+    }
+
+    private static String runField(String runId) {
+        String id = runId.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        return pad(id.length() > RUN_WIDTH ? id.substring(id.length() - RUN_WIDTH) : id, RUN_WIDTH);
+    }
+
+    private static long forkNumber(String forkId) {
+        try {
+            return Math.abs(Long.parseLong(forkId.trim()));
+        } catch (NumberFormatException e) {
+            return Math.abs((long) forkId.hashCode());
+        }
+    }
+
+    private static String pad(String value, int width) {
+        return value.length() >= width ? value : "0".repeat(width - value.length()) + value;
+    }
+
+    private static long pow36(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 36;
+        }
+        return result;
+    }
+}
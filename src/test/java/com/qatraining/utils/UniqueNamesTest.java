@@ -0,0 +1,47 @@
+package com.qatraining.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniqueNamesTest {
+
+    @Test
+    void concurrentCallersNeverGetTheSameName() {
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            IntStream.range(0, 16).forEach(t -> executor.execute(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    names.add(UniqueNames.of("Plant"));
+                }
+            }));
+        }
+        assertThat(names).hasSize(16 * 5_000);
+    }
+
+    @Test
+    void forkAndCounterFieldsDoNotRunIntoEachOther() {
+        // Fork 1 with counter 37 ("11" in base 36) against fork 37 with counter 1
+        String fork1 = UniqueNames.of("Plant", UniqueNames.prefix("run", 1), 37, 100);
+        String fork37 = UniqueNames.of("Plant", UniqueNames.prefix("run", 37), 1, 100);
+        assertThat(fork1).isNotEqualTo(fork37);
+    }
+
+    @Test
+    void prefixHasFixedWidth() {
+        assertThat(UniqueNames.prefix("r", 1)).hasSize(UniqueNames.RUN_WIDTH + UniqueNames.FORK_WIDTH);
+        assertThat(UniqueNames.prefix("longer-run-id", 1_000_000)).hasSize(UniqueNames.RUN_WIDTH + UniqueNames.FORK_WIDTH);
+    }
+
+    @Test
+    void longBaseNamesAreShortenedToTheLimit() {
+        String name = UniqueNames.of("Negative Price Plant", UniqueNames.prefix("run", 1), 1, 25);
+        assertThat(name).hasSize(25).startsWith("Negative Pri_");
+    }
+}
@@ -3,13 +3,13 @@ Feature: Sales Management API
   @api @sales-management
   Scenario: API-SM-01 Sell a plant successfully
     Given Admin user is authenticated
-    When Admin sells plant with id 2 quantity 1
+    When Admin sells pooled plant "rose" quantity 1
     Then Sale should be successful
 
   @api @sales-management
     Scenario: API-SM-02 Sell plant with insufficient stock
       Given Admin user is authenticated
-      When Admin sells plant with id 1 quantity 10
+      When Admin sells more than the stock of pooled plant "rose"
       Then Sale should fail due to insufficient stock
 
       @api @sales-management
@@ -27,7 +27,7 @@ Scenario: API-SM-05 Get all sales
   @api @sales-management
   Scenario: API-SM-06 Get sale by valid ID
     Given Admin user is authenticated
-    And Admin creates a sale with plant id 1 quantity 1
+    And Admin creates a sale with pooled plant "rose" quantity 1
     When Admin retrieves the created sale
     Then Correct sale details should be returned
 
@@ -40,7 +40,7 @@ Scenario: API-SM-07 Get sale by invalid ID
 @api @sales-management
 Scenario: API-SM-08 Delete sale successfully
   Given Admin user is authenticated
-  And Admin creates a sale with plant id 1 quantity 1
+  And Admin creates a sale with pooled plant "rose" quantity 1
   When Admin deletes the created sale
   Then Sale should be deleted successfully
 
@@ -61,7 +61,7 @@ Scenario: API-SM-10 Get sales with pagination and sorting
 @api @sales-management
 Scenario: API-SM-04 Unauthorized plant sale attempt
   Given Non-admin user is authenticated
-  When Non-admin tries to sell plant with id 1 quantity 1
+  When Non-admin tries to sell pooled plant "rose" quantity 1
   Then Sale should be forbidden
 
 